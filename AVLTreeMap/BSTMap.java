@@ -1,3 +1,14 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
 /**
  * Class that implements a binary search tree which implements the MyMap
  * interface.
@@ -6,6 +17,11 @@
  */
 public class BSTMap<K extends Comparable<K>, V> implements MyMap<K, V> {
     public static final int PREORDER = 1, INORDER = 2, POSTORDER = 3;
+    /**
+     * putAll() rebuilds the tree for a sorted batch of at least 1 /
+     * REBUILD_FRACTION of the map's size and uses put() for smaller ones.
+     */
+    private static final int REBUILD_FRACTION = 4;
     protected Node<K, V> root;
     protected int size;
 
@@ -27,54 +43,191 @@ public class BSTMap<K extends Comparable<K>, V> implements MyMap<K, V> {
      * sorted is true, a balanced tree will be created. If sorted is false,
      * the pairs will be inserted in the order they are received.
      * @param elements an array of key-value pairs
+     * @throws IllegalArgumentException if sorted is true but the pairs are
+     *         not in ascending key order
      */
     public BSTMap(Pair<K, V>[] elements, boolean sorted) {
         if (!sorted) {
             insertElements(elements);
         } else {
-            root = createBST(elements, 0, elements.length - 1);
+            putAll(elements, true);
         }
     }
 
     /**
-     * Recursively constructs a balanced binary search tree by inserting the
-     * elements via a divide-snd-conquer approach. The middle element in the
-     * array becomes the root. The middle of the left half becomes the root's
-     * left child. The middle element of the right half becomes the root's right
-     * child. This process continues until low > high, at which point the
-     * method returns a null Node.
-     * @param pairs an array of <K, V> pairs sorted by key
-     * @param low   the low index of the array of elements
-     * @param high  the high index of the array of elements
-     * @return      the root of the balanced tree of pairs
+     * Inserts the pairs into the tree in the order they appear in the given
+     * array.
+     * @param pairs the array of <K, V> pairs to insert
      */
-    protected Node<K, V> createBST(Pair<K, V>[] pairs, int low, int high) {
-        if (low > high) {
-            return null;
+    protected void insertElements(Pair<K, V>[] pairs) {
+        for (Pair<K, V> pair : pairs) {
+            put(pair);
         }
-        int mid = low + (high - low) / 2;
-        Pair<K, V> pair = pairs[mid];
-        Node<K, V> parent = new Node<>(pair.key, pair.value);
-        size++;
-        parent.left = createBST(pairs, low, mid - 1);
-        if (parent.left != null) {
-            parent.left.parent = parent;
+    }
+
+    /**
+     * Associates every key in pairs with its value, as if put() was called
+     * for each pair in order, so of several pairs with the same key the last
+     * one wins. The pairs are copied and sorted by key, in parallel for large
+     * arrays, and then merged into the tree by putAll(pairs, true).
+     * @param pairs the key-value pairs to insert, in any order
+     */
+    public void putAll(Pair<K, V>[] pairs) {
+        Pair<K, V>[] sorted = pairs.clone();
+        sortByKey(sorted, sorted.length);
+        mergeSorted(sorted, sorted.length);
+    }
+
+    /**
+     * Associates every key in pairs with its value. If sorted is true, the
+     * pairs must be in ascending key order; several pairs may share a key,
+     * and the last one wins. A batch of at least a quarter of the map's size
+     * is merged with the tree's mappings in a single pass and the tree is
+     * rebuilt balanced in O(n + m) time, reusing its Nodes; a smaller batch
+     * is inserted with put(). If sorted is false, this is putAll(pairs).
+     * @param pairs  the key-value pairs to insert
+     * @param sorted whether the pairs are already sorted by key
+     * @throws IllegalArgumentException if sorted is true but the pairs are
+     *         not in ascending key order
+     */
+    public void putAll(Pair<K, V>[] pairs, boolean sorted) {
+        if (!sorted) {
+            putAll(pairs);
+        } else {
+            mergeSorted(pairs, pairs.length);
+        }
+    }
+
+    /**
+     * Associates every key returned by the iterator with its value, as if
+     * put() was called for each pair in order. The pairs are collected into
+     * an array, sorted and merged as by putAll(pairs).
+     * @param pairs an iterator over the key-value pairs to insert
+     */
+    public void putAll(Iterator<? extends Pair<K, V>> pairs) {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Pair<K, V>[] buffer = new Pair[16];
+        int n = 0;
+        while (pairs.hasNext()) {
+            if (n == buffer.length) {
+                buffer = Arrays.copyOf(buffer, n * 2);
+            }
+            buffer[n++] = pairs.next();
+        }
+        sortByKey(buffer, n);
+        mergeSorted(buffer, n);
+    }
+
+    /**
+     * Sorts the first n pairs by key. Arrays.parallelSort() is stable, so
+     * pairs with equal keys keep the order in which they were received.
+     */
+    private static <K extends Comparable<K>, V> void sortByKey(
+            Pair<K, V>[] pairs, int n) {
+        Arrays.parallelSort(pairs, 0, n, (a, b) -> a.key.compareTo(b.key));
+    }
+
+    private void mergeSorted(Pair<K, V>[] pairs, int m) {
+        for (int i = 1; i < m; i++) {
+            if (pairs[i - 1].key.compareTo(pairs[i].key) > 0) {
+                throw new IllegalArgumentException(
+                        "Pairs are not sorted by key at index " + i);
+            }
+        }
+        // A merge relinks every Node in the tree. Measured per Node it costs
+        // a fraction of a put(), but it only pays off once the batch is a
+        // sizable part of the map; below a quarter of it put() is faster.
+        if ((long)m * REBUILD_FRACTION < size) {
+            for (int i = 0; i < m; i++) {
+                put(pairs[i].key, pairs[i].value);
+            }
+            return;
+        }
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Node<K, V>[] nodes = new Node[size + m];
+        int n = 0;
+        Node<K, V> x = root == null ? null : treeMinimum(root);
+        for (int i = 0; i < m; i++) {
+            Pair<K, V> pair = pairs[i];
+            if (i + 1 < m && pair.key.compareTo(pairs[i + 1].key) == 0) {
+                continue;
+            }
+            while (x != null && x.key.compareTo(pair.key) < 0) {
+                nodes[n++] = x;
+                x = successor(x);
+            }
+            if (x != null && x.key.compareTo(pair.key) == 0) {
+                x.value = pair.value;
+                nodes[n++] = x;
+                x = successor(x);
+            } else {
+                nodes[n++] = new Node<>(pair.key, pair.value);
+            }
         }
-        parent.right = createBST(pairs, mid + 1, high);
-        if (parent.right != null) {
-            parent.right.parent = parent;
+        for (; x != null; x = successor(x)) {
+            nodes[n++] = x;
         }
-        return parent;
+        buildBalanced(nodes, n);
     }
 
     /**
-     * Inserts the pairs into the tree in the order they appear in the given
-     * array.
-     * @param pairs the array of <K, V> pairs to insert
+     * Makes the first n Nodes, which must be sorted by key with no duplicate
+     * keys, this map's tree. As in the recursive divide-and-conquer
+     * construction this replaces, the middle Node becomes the root, the
+     * middle of the left half becomes its left child, and so on, but the
+     * ranges still to be linked are kept on an explicit stack. A subtree of
+     * s Nodes built this way always has height floor(log2(s)) and satisfies
+     * the AVL balance property, so each Node's height and size are set as it
+     * is linked and no bottom-up pass is needed.
+     * @param nodes the Nodes to link, sorted by key
+     * @param n     the number of Nodes to link
      */
-    protected void insertElements(Pair<K, V>[] pairs) {
-        for (Pair<K, V> pair : pairs) {
-            put(pair);
+    protected void buildBalanced(Node<K, V>[] nodes, int n) {
+        root = null;
+        size = n;
+        if (n == 0) {
+            return;
+        }
+        // At most one pending range per level plus the one being split.
+        int capacity = 34;
+        int[] lows = new int[capacity], highs = new int[capacity];
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Node<K, V>[] parents = new Node[capacity];
+        boolean[] isLeft = new boolean[capacity];
+        int top = 0;
+        highs[0] = n - 1;
+        while (top >= 0) {
+            int low = lows[top], high = highs[top];
+            Node<K, V> parent = parents[top];
+            boolean left = isLeft[top];
+            top--;
+            int mid = low + (high - low) / 2;
+            Node<K, V> x = nodes[mid];
+            x.parent = parent;
+            x.left = x.right = null;
+            x.size = high - low + 1;
+            x.height = 31 - Integer.numberOfLeadingZeros(x.size);
+            if (parent == null) {
+                root = x;
+            } else if (left) {
+                parent.left = x;
+            } else {
+                parent.right = x;
+            }
+            if (mid < high) {
+                top++;
+                lows[top] = mid + 1;
+                highs[top] = high;
+                parents[top] = x;
+                isLeft[top] = false;
+            }
+            if (low < mid) {
+                top++;
+                lows[top] = low;
+                highs[top] = mid - 1;
+                parents[top] = x;
+                isLeft[top] = true;
+            }
         }
     }
 
@@ -101,109 +254,228 @@ public class BSTMap<K extends Comparable<K>, V> implements MyMap<K, V> {
      *         traversal
      */
     public String preorder() {
-        StringBuilder builder = new StringBuilder();
-        builder.append("[");
-        preorder(root, builder, 0);
-        builder.append("]");
-        return builder.toString();
+        return traversalString(PREORDER);
     }
 
     /**
-     * Visits the Nodes of the tree in a preorder traversal. Each Node's
-     * toString() return value should be appended to the StringBuilder. A ", "
-     * must appear between each Node's data in the final String.
-     * @param n            the current Node
-     * @param builder      the StringBuilder used to build up the output
-     * @param nodesVisited the number of nodes visited so far. Useful for
-     *                     determining when to append ", ".
-     * @return the number of nodes visited after each recursive call
+     * Returns a String of the key-value pairs visited with an inorder
+     * traversal. Uses a StringBuilder for efficiency.
+     * @return a String of the key-value pairs visited with an inorder
+     *         traversal
      */
-    private int preorder(Node<K, V> n, StringBuilder builder,
-                         int nodesVisited) {
-        if (n != null) {
-            if (nodesVisited != 0) {
-                builder.append(", ");
-            }
-            builder.append(n);
-            nodesVisited = preorder(n.left, builder, nodesVisited + 1);
-            nodesVisited = preorder(n.right, builder, nodesVisited);
-        }
-        return nodesVisited;
+    public String inorder() {
+        return traversalString(INORDER);
     }
 
     /**
-     * Returns a String of the key-value pairs visited with an inorder
+     * Returns a String of the key-value pairs visited with a postorder
      * traversal. Uses a StringBuilder for efficiency.
-     * @return a String of the key-value pairs visited with an inorder
+     * @return a String of the key-value pairs visited with a postorder
      *         traversal
      */
-    public String inorder() {
-        StringBuilder builder = new StringBuilder();
-        builder.append("[");
-        inorder(root, builder, 0);
-        builder.append("]");
-        return builder.toString();
+    public String postorder() {
+        return traversalString(POSTORDER);
+    }
+
+    /**
+     * Passes every mapping to the action in the order of the given traversal.
+     * The tree is walked through the parent references rather than by
+     * recursion, so the walk needs constant extra space and cannot overflow
+     * the stack on a degenerate tree.
+     * @param type   PREORDER, INORDER or POSTORDER
+     * @param action the action to perform on each mapping
+     * @throws IllegalArgumentException if type is not a traversal type
+     */
+    public void traverse(int type, Consumer<? super Entry<K, V>> action) {
+        for (Node<K, V> x = firstVisited(type); x != null;
+                x = nextVisited(type, x)) {
+            action.accept(x);
+        }
     }
 
     /**
-     * Visits the Nodes of the tree in an inorder traversal. Each Node's
-     * toString() return value should be appended to the StringBuilder. A ", "
-     * must appear between each Node's data in the final String.
-     * @param n            the current Node
-     * @param builder      the StringBuilder used to build up the output
-     * @param nodesVisited the number of nodes visited so far. Useful for
-     *                     determining when to append ", ".
-     * @return the number of nodes visited after each recursive call
+     * Writes the key-value pairs visited with the given traversal to out, in
+     * the same format as preorder(), inorder() and postorder(). Each Node is
+     * written as soon as it is visited, so a Writer can stream a large tree to
+     * a file without holding the whole String in memory.
+     * @param type PREORDER, INORDER or POSTORDER
+     * @param out  the Appendable to write to
+     * @throws IOException if out throws one
+     * @throws IllegalArgumentException if type is not a traversal type
      */
-    private int inorder(Node<K, V> n, StringBuilder builder,
-                        int nodesVisited) {
-        if (n != null) {
-            nodesVisited = inorder(n.left, builder, nodesVisited);
-            if (nodesVisited != 0) {
-                builder.append(", ");
+    public void appendTraversal(int type, Appendable out) throws IOException {
+        out.append('[');
+        Node<K, V> first = firstVisited(type);
+        for (Node<K, V> x = first; x != null; x = nextVisited(type, x)) {
+            if (x != first) {
+                out.append(", ");
             }
-            builder.append(n);
-            nodesVisited = inorder(n.right, builder, nodesVisited + 1);
+            out.append(x.toString());
         }
-        return nodesVisited;
+        out.append(']');
     }
 
     /**
-     * Returns a String of the key-value pairs visited with a postorder
-     * traversal. Uses a StringBuilder for efficiency.
-     * @return a String of the key-value pairs visited with a postorder
-     *         traversal
+     * Returns a Spliterator over the mappings in this map in ascending key
+     * order. It knows its exact size, and splits at the middle rank with
+     * select, so parallel streams divide the work evenly. Like iterator(), it
+     * returns the tree's Nodes themselves.
+     * @return a Spliterator over the mappings in this map
      */
-    public String postorder() {
+    public Spliterator<Entry<K, V>> spliterator() {
+        return new MapSpliterator(0, size);
+    }
+
+    private String traversalString(int type) {
         StringBuilder builder = new StringBuilder();
-        builder.append("[");
-        postorder(root, builder, 0);
-        builder.append("]");
+        try {
+            appendTraversal(type, builder);
+        } catch (IOException e) {
+            // A StringBuilder never throws.
+            throw new UncheckedIOException(e);
+        }
         return builder.toString();
     }
 
+    private Node<K, V> firstVisited(int type) {
+        if (root == null) {
+            checkTraversalType(type);
+            return null;
+        }
+        switch (type) {
+            case PREORDER:
+                return root;
+            case INORDER:
+                return treeMinimum(root);
+            case POSTORDER:
+                return firstPostorder(root);
+            default:
+                checkTraversalType(type);
+                return null;
+        }
+    }
+
+    private Node<K, V> nextVisited(int type, Node<K, V> x) {
+        switch (type) {
+            case PREORDER:
+                if (x.left != null) {
+                    return x.left;
+                }
+                if (x.right != null) {
+                    return x.right;
+                }
+                // Climb until x is a left child whose parent has a right
+                // subtree that has not been visited yet.
+                for (Node<K, V> p = x.parent; p != null; x = p, p = p.parent) {
+                    if (x == p.left && p.right != null) {
+                        return p.right;
+                    }
+                }
+                return null;
+            case INORDER:
+                return successor(x);
+            default:
+                Node<K, V> p = x.parent;
+                if (p == null || x == p.right || p.right == null) {
+                    return p;
+                }
+                return firstPostorder(p.right);
+        }
+    }
+
+    /**
+     * Returns the first Node a postorder traversal of the subtree rooted at x
+     * visits: the leaf reached by going left whenever possible and right
+     * otherwise.
+     */
+    private Node<K, V> firstPostorder(Node<K, V> x) {
+        while (true) {
+            if (x.left != null) {
+                x = x.left;
+            } else if (x.right != null) {
+                x = x.right;
+            } else {
+                return x;
+            }
+        }
+    }
+
+    private void checkTraversalType(int type) {
+        if (type != PREORDER && type != INORDER && type != POSTORDER) {
+            throw new IllegalArgumentException(
+                    "Invalid traversal type: " + type);
+        }
+    }
+
     /**
-     * Visits the Nodes of the tree in a postorder traversal. Each Node's
-     * toString() return value should be appended to the StringBuilder. A ", "
-     * must appear between each Node's data in the final String.
-     * @param n            the current Node
-     * @param builder      the StringBuilder used to build up the output
-     * @param nodesVisited the number of nodes visited so far. Useful for
-     *                     determining when to append ", ".
-     * @return the number of nodes visited after each recursive call
+     * Spliterator over the Nodes whose ranks lie in [lo, hi). The first Node
+     * is only looked up when the Spliterator is first advanced, so splitting
+     * costs one select per half.
      */
-    private int postorder(Node<K, V> n, StringBuilder builder,
-                          int nodesVisited) {
-        if (n != null) {
-            nodesVisited = postorder(n.left, builder, nodesVisited);
-            nodesVisited = postorder(n.right, builder, nodesVisited);
-            if (nodesVisited != 0) {
-                builder.append(", ");
+    private class MapSpliterator implements Spliterator<Entry<K, V>> {
+        private int lo;
+        private final int hi;
+        private Node<K, V> next;
+
+        MapSpliterator(int lo, int hi) {
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Entry<K, V>> action) {
+            if (lo >= hi) {
+                return false;
+            }
+            Node<K, V> x = next == null ? selectNode(lo) : next;
+            lo++;
+            next = lo < hi ? successor(x) : null;
+            action.accept(x);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Entry<K, V>> action) {
+            if (lo >= hi) {
+                return;
+            }
+            Node<K, V> x = next == null ? selectNode(lo) : next;
+            int remaining = hi - lo;
+            lo = hi;
+            next = null;
+            for (; remaining > 0; remaining--) {
+                action.accept(x);
+                x = successor(x);
+            }
+        }
+
+        @Override
+        public Spliterator<Entry<K, V>> trySplit() {
+            if (hi - lo < 2) {
+                return null;
             }
-            builder.append(n);
-            nodesVisited++;
+            int mid = (lo + hi) >>> 1;
+            MapSpliterator prefix = new MapSpliterator(lo, mid);
+            prefix.next = next;
+            next = null;
+            lo = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return hi - lo;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SORTED | DISTINCT | SIZED | SUBSIZED | NONNULL;
+        }
+
+        @Override
+        public Comparator<? super Entry<K, V>> getComparator() {
+            return (a, b) -> a.key.compareTo(b.key);
         }
-        return nodesVisited;
     }
 
     /**
@@ -262,9 +534,10 @@ public class BSTMap<K extends Comparable<K>, V> implements MyMap<K, V> {
      */
     public V put(K key, V value) {
         Node<K, V> x = root, y = null;
+        int comparison = 0;
         while (x != null) {
             y = x;
-            int comparison = key.compareTo(x.key);
+            comparison = key.compareTo(x.key);
             if (comparison < 0) {
                 x = x.left;
             } else if (comparison > 0) {
@@ -281,12 +554,13 @@ public class BSTMap<K extends Comparable<K>, V> implements MyMap<K, V> {
         z.parent = y;
         if (y == null) {
             root = z;
-        } else if (key.compareTo(y.key) < 0) {
+        } else if (comparison < 0) {
             y.left = z;
         } else {
             y.right = z;
         }
         size++;
+        fixUpFrom(y);
         // There was no previous mapping for this key.
         return null;
     }
@@ -302,23 +576,367 @@ public class BSTMap<K extends Comparable<K>, V> implements MyMap<K, V> {
         if (z == null) {
             return null;
         }
+        removeNode(z);
+        return z.value;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or defaultValue
+     * if this map contains no mapping for the key.
+     * @param key          the key whose associated value is to be returned
+     * @param defaultValue the value to return if the key is not mapped
+     * @return the value to which the specified key is mapped, or defaultValue
+     *         if this map contains no mapping for the key
+     */
+    public V getOrDefault(K key, V defaultValue) {
+        Node<K, V> x = iterativeSearch(key);
+        return x != null ? x.value : defaultValue;
+    }
+
+    /**
+     * If the specified key is not mapped, associates it with the given value.
+     * Otherwise, replaces the mapped value with the result of the remapping
+     * function applied to the old and the given value, or removes the mapping
+     * if that result is null. The tree is descended only once.
+     * @param key               the key with which the value is to be merged
+     * @param value             the value to merge with the existing value
+     * @param remappingFunction the function that combines the old and the
+     *                          given value
+     * @return the new value associated with key, or null if the mapping was
+     *         removed
+     */
+    public V merge(K key, V value,
+            BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        Node<K, V> x = searchOrParent(key);
+        if (x == null || key.compareTo(x.key) != 0) {
+            insertChild(x, key, value);
+            return value;
+        }
+        V newValue = x.value == null ? value
+                : remappingFunction.apply(x.value, value);
+        if (newValue == null) {
+            removeNode(x);
+        } else {
+            x.value = newValue;
+        }
+        return newValue;
+    }
+
+    /**
+     * Computes a new value for the specified key from the key and its current
+     * value (null if there is none). If the result is null, the mapping is
+     * removed (or not created). The tree is descended only once.
+     * @param key               the key whose value is to be computed
+     * @param remappingFunction the function that computes the new value
+     * @return the new value associated with key, or null if there is none
+     */
+    public V compute(K key,
+            BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Node<K, V> x = searchOrParent(key);
+        if (x == null || key.compareTo(x.key) != 0) {
+            V newValue = remappingFunction.apply(key, null);
+            if (newValue != null) {
+                insertChild(x, key, newValue);
+            }
+            return newValue;
+        }
+        V newValue = remappingFunction.apply(key, x.value);
+        if (newValue == null) {
+            removeNode(x);
+        } else {
+            x.value = newValue;
+        }
+        return newValue;
+    }
+
+    /**
+     * If the specified key is not mapped to a value, computes its value with
+     * the mapping function and enters it into the map unless it is null. The
+     * tree is descended only once.
+     * @param key             the key whose value is to be computed
+     * @param mappingFunction the function that computes the value
+     * @return the current (existing or computed) value associated with key,
+     *         or null if the computed value is null
+     */
+    public V computeIfAbsent(K key,
+                             Function<? super K, ? extends V> mappingFunction) {
+        Node<K, V> x = searchOrParent(key);
+        if (x == null || key.compareTo(x.key) != 0) {
+            V newValue = mappingFunction.apply(key);
+            if (newValue != null) {
+                insertChild(x, key, newValue);
+            }
+            return newValue;
+        }
+        if (x.value == null) {
+            x.value = mappingFunction.apply(key);
+        }
+        return x.value;
+    }
+
+    /**
+     * Returns the least key in this map, or null if the map is empty.
+     * @return the least key in this map, or null if the map is empty
+     */
+    public K firstKey() {
+        return root == null ? null : treeMinimum(root).key;
+    }
+
+    /**
+     * Returns the greatest key in this map, or null if the map is empty.
+     * @return the greatest key in this map, or null if the map is empty
+     */
+    public K lastKey() {
+        return root == null ? null : treeMaximum(root).key;
+    }
+
+    /**
+     * Returns the greatest key less than or equal to the given key, or null
+     * if there is no such key.
+     * @param key the key to search for
+     * @return the greatest key less than or equal to key, or null if there is
+     *         no such key
+     */
+    public K floorKey(K key) {
+        return keyOrNull(floorNode(key, true));
+    }
+
+    /**
+     * Returns the greatest key strictly less than the given key, or null if
+     * there is no such key.
+     * @param key the key to search for
+     * @return the greatest key less than key, or null if there is no such key
+     */
+    public K lowerKey(K key) {
+        return keyOrNull(floorNode(key, false));
+    }
+
+    /**
+     * Returns the least key greater than or equal to the given key, or null
+     * if there is no such key.
+     * @param key the key to search for
+     * @return the least key greater than or equal to key, or null if there is
+     *         no such key
+     */
+    public K ceilingKey(K key) {
+        return keyOrNull(ceilingNode(key, true));
+    }
+
+    /**
+     * Returns the least key strictly greater than the given key, or null if
+     * there is no such key.
+     * @param key the key to search for
+     * @return the least key greater than key, or null if there is no such key
+     */
+    public K higherKey(K key) {
+        return keyOrNull(ceilingNode(key, false));
+    }
+
+    /**
+     * Returns the number of keys in this map that are strictly less than the
+     * given key. The key itself does not have to be in the map. If it is,
+     * select(rank(key)) returns it.
+     * @param key the key whose rank is to be returned
+     * @return the number of keys less than key
+     */
+    public int rank(K key) {
+        int rank = 0;
+        Node<K, V> x = root;
+        while (x != null) {
+            int comparison = key.compareTo(x.key);
+            if (comparison < 0) {
+                x = x.left;
+            } else if (comparison > 0) {
+                rank += size(x.left) + 1;
+                x = x.right;
+            } else {
+                return rank + size(x.left);
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the key with the specified rank, that is the key that has
+     * exactly index keys less than it.
+     * @param index the rank of the key to return
+     * @return the key with the specified rank
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         (index < 0 || index >= size())
+     */
+    public K select(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", map size: " + size);
+        }
+        return selectNode(index).key;
+    }
+
+    /**
+     * Returns the Node with the specified rank, which must be in range.
+     * @param index the rank of the Node to return
+     * @return the Node with the specified rank
+     */
+    protected Node<K, V> selectNode(int index) {
+        Node<K, V> x = root;
+        while (true) {
+            int leftSize = size(x.left);
+            if (index < leftSize) {
+                x = x.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                x = x.right;
+            } else {
+                return x;
+            }
+        }
+    }
+
+    /**
+     * Returns the Node with the greatest key less than the given key, or
+     * less than or equal to it if inclusive is true.
+     * @param key       the key to search for
+     * @param inclusive whether a Node containing key itself qualifies
+     * @return the matching Node, or null if there is none
+     */
+    protected Node<K, V> floorNode(K key, boolean inclusive) {
+        Node<K, V> x = root, best = null;
+        while (x != null) {
+            int comparison = key.compareTo(x.key);
+            if (comparison == 0 && inclusive) {
+                return x;
+            }
+            if (comparison > 0) {
+                best = x;
+                x = x.right;
+            } else {
+                x = x.left;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the Node with the least key greater than the given key, or
+     * greater than or equal to it if inclusive is true.
+     * @param key       the key to search for
+     * @param inclusive whether a Node containing key itself qualifies
+     * @return the matching Node, or null if there is none
+     */
+    protected Node<K, V> ceilingNode(K key, boolean inclusive) {
+        Node<K, V> x = root, best = null;
+        while (x != null) {
+            int comparison = key.compareTo(x.key);
+            if (comparison == 0 && inclusive) {
+                return x;
+            }
+            if (comparison < 0) {
+                best = x;
+                x = x.left;
+            } else {
+                x = x.right;
+            }
+        }
+        return best;
+    }
+
+    private K keyOrNull(Node<K, V> x) {
+        return x == null ? null : x.key;
+    }
+
+    /**
+     * Returns the Node containing the specified key if it is found in the
+     * tree. Otherwise, returns the Node that would become the new key's
+     * parent, or null if the tree is empty.
+     * @param key the key to search for
+     * @return the Node containing key, or the parent for a new Node with key
+     */
+    protected Node<K, V> searchOrParent(K key) {
+        Node<K, V> x = root, y = null;
+        while (x != null) {
+            int comparison = key.compareTo(x.key);
+            if (comparison == 0) {
+                return x;
+            }
+            y = x;
+            x = comparison < 0 ? x.left : x.right;
+        }
+        return y;
+    }
+
+    /**
+     * Links a new Node with the given mapping below the specified parent, as
+     * found by searchOrParent().
+     * @param y     the parent of the new Node, or null if the tree is empty
+     * @param key   the key of the new Node
+     * @param value the value of the new Node
+     */
+    protected void insertChild(Node<K, V> y, K key, V value) {
+        Node<K, V> z = new Node<K, V>(key, value);
+        z.parent = y;
+        if (y == null) {
+            root = z;
+        } else if (key.compareTo(y.key) < 0) {
+            y.left = z;
+        } else {
+            y.right = z;
+        }
+        size++;
+        fixUpFrom(y);
+    }
+
+    /**
+     * Unlinks the specified Node from the tree. When z has two children, its
+     * successor y takes over z's place and z's cached height.
+     * @param z the Node to remove
+     */
+    protected void removeNode(Node<K, V> z) {
+        // The lowest Node whose subtree lost a Node.
+        Node<K, V> x;
         if (z.left == null) {
+            x = z.parent;
             transplant(z, z.right);
         } else if (z.right == null) {
+            x = z.parent;
             transplant(z, z.left);
         } else {
             Node<K, V> y = treeMinimum(z.right);
             if (y.parent != z) {
+                x = y.parent;
                 transplant(y, y.right);
                 y.right = z.right;
                 y.right.parent = y;
+            } else {
+                x = y;
             }
             transplant(z, y);
             y.left = z.left;
             y.left.parent = y;
+            y.height = z.height;
         }
         size--;
-        return z.value;
+        fixUpFrom(x);
+    }
+
+    /**
+     * Restores the cached subtree sizes on the path from x to the root after
+     * a Node was linked in or unlinked directly below x. AVLTreeMap overrides
+     * this to rebalance the same path.
+     * @param x the lowest Node whose subtree changed, or null
+     */
+    protected void fixUpFrom(Node<K, V> x) {
+        for (; x != null; x = x.parent) {
+            x.size = 1 + size(x.left) + size(x.right);
+        }
+    }
+
+    /**
+     * Returns the number of Nodes in the subtree rooted at x.
+     * @param x the root of the subtree, or null
+     * @return the number of Nodes in the subtree, 0 if x is null
+     */
+    protected int size(Node<K, V> x) {
+        return x == null ? 0 : x.size;
     }
 
     /**
@@ -335,6 +953,20 @@ public class BSTMap<K extends Comparable<K>, V> implements MyMap<K, V> {
         return x;
     }
 
+    /**
+     * Returns a reference to the Node whose key value is the maximum key in the
+     * tree.
+     * @param x the Node at which to start the traversal
+     * @return a reference to the Node whose key value is the maximum key in the
+     *         tree
+     */
+    protected Node<K, V> treeMaximum(Node<K, V> x) {
+        while (x.right != null) {
+            x = x.right;
+        }
+        return x;
+    }
+
     protected void transplant(Node<K, V> u, Node<K, V> v) {
         if (u.parent == null) {
             root = v;
@@ -348,6 +980,266 @@ public class BSTMap<K extends Comparable<K>, V> implements MyMap<K, V> {
         }
     }
 
+    /**
+     * Returns an iterator over the mappings in this map in ascending key
+     * order. The iterator walks the tree through the parent references, so
+     * it needs constant extra space, and it returns the tree's Nodes
+     * themselves. Its remove() removes the last returned mapping from this
+     * map; any other change to the map while iterating leaves the iterator
+     * undefined.
+     * @return an iterator over the mappings in this map in ascending order
+     */
+    public Iterator<Entry<K, V>> iterator() {
+        return new MapItr(root == null ? null : treeMinimum(root), null, false);
+    }
+
+    /**
+     * Returns an iterator over the mappings in this map in descending key
+     * order, with the same properties as iterator().
+     * @return an iterator over the mappings in this map in descending order
+     */
+    public Iterator<Entry<K, V>> descendingIterator() {
+        return new MapItr(root == null ? null : treeMaximum(root), null, true);
+    }
+
+    /**
+     * Returns a view of the portion of this map whose keys range from
+     * fromKey, inclusive, to toKey, exclusive. The view is backed by this map,
+     * so changes to either are visible in the other.
+     * @param fromKey the low endpoint (inclusive) of the keys in the view
+     * @param toKey   the high endpoint (exclusive) of the keys in the view
+     * @return a view of the mappings with keys in [fromKey, toKey)
+     * @throws IllegalArgumentException if fromKey is greater than toKey
+     */
+    public SubMap subMap(K fromKey, K toKey) {
+        if (fromKey.compareTo(toKey) > 0) {
+            throw new IllegalArgumentException("fromKey > toKey");
+        }
+        return new SubMap(fromKey, toKey);
+    }
+
+    /**
+     * Returns a view of the portion of this map whose keys are strictly less
+     * than toKey. The view is backed by this map.
+     * @param toKey the high endpoint (exclusive) of the keys in the view
+     * @return a view of the mappings with keys less than toKey
+     */
+    public SubMap headMap(K toKey) {
+        return new SubMap(null, toKey);
+    }
+
+    /**
+     * Returns a view of the portion of this map whose keys are greater than
+     * or equal to fromKey. The view is backed by this map.
+     * @param fromKey the low endpoint (inclusive) of the keys in the view
+     * @return a view of the mappings with keys greater than or equal to
+     *         fromKey
+     */
+    public SubMap tailMap(K fromKey) {
+        return new SubMap(fromKey, null);
+    }
+
+    /**
+     * Returns the Node with the next larger key, or null if x has the largest
+     * key in the tree.
+     * @param x the Node whose successor is returned
+     * @return the successor of x, or null if there is none
+     */
+    protected Node<K, V> successor(Node<K, V> x) {
+        if (x.right != null) {
+            return treeMinimum(x.right);
+        }
+        Node<K, V> y = x.parent;
+        while (y != null && x == y.right) {
+            x = y;
+            y = y.parent;
+        }
+        return y;
+    }
+
+    /**
+     * Returns the Node with the next smaller key, or null if x has the
+     * smallest key in the tree.
+     * @param x the Node whose predecessor is returned
+     * @return the predecessor of x, or null if there is none
+     */
+    protected Node<K, V> predecessor(Node<K, V> x) {
+        if (x.left != null) {
+            return treeMaximum(x.left);
+        }
+        Node<K, V> y = x.parent;
+        while (y != null && x == y.left) {
+            x = y;
+            y = y.parent;
+        }
+        return y;
+    }
+
+    /**
+     * Walks the Nodes from a starting Node in ascending or descending order
+     * until it passes the fence key, if there is one. An ascending walk stops
+     * at the first key greater than or equal to the fence, and a descending
+     * walk at the first key less than it.
+     */
+    private class MapItr implements Iterator<Entry<K, V>> {
+        private final K fence;
+        private final boolean descending;
+        private Node<K, V> next, lastReturned;
+
+        MapItr(Node<K, V> first, K fence, boolean descending) {
+            this.fence = fence;
+            this.descending = descending;
+            next = fenced(first);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = next;
+            next = fenced(descending ? predecessor(next) : successor(next));
+            return lastReturned;
+        }
+
+        /**
+         * Removes the last returned mapping. The Nodes are relinked rather
+         * than having their mappings copied, so the next Node stays valid.
+         */
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            removeNode(lastReturned);
+            lastReturned = null;
+        }
+
+        private Node<K, V> fenced(Node<K, V> x) {
+            if (x == null || fence == null) {
+                return x;
+            }
+            int comparison = x.key.compareTo(fence);
+            return (descending ? comparison < 0 : comparison >= 0) ? null : x;
+        }
+    }
+
+    /**
+     * A view of the mappings of this map whose keys lie in [lo, hi), where a
+     * null bound means the range is unbounded on that side. Lookups and
+     * removals of keys outside the range behave as if the key was absent,
+     * while inserting such a key throws an IllegalArgumentException. size()
+     * is computed with rank() rather than by counting.
+     */
+    public class SubMap implements MyMap<K, V> {
+        private final K lo, hi;
+
+        SubMap(K lo, K hi) {
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        public int size() {
+            return (hi == null ? size : rank(hi)) - (lo == null ? 0 : rank(lo));
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return first() == null;
+        }
+
+        @Override
+        public V get(K key) {
+            return inRange(key) ? BSTMap.this.get(key) : null;
+        }
+
+        @Override
+        public V put(K key, V value) {
+            checkInRange(key);
+            return BSTMap.this.put(key, value);
+        }
+
+        @Override
+        public V remove(K key) {
+            return inRange(key) ? BSTMap.this.remove(key) : null;
+        }
+
+        @Override
+        public V getOrDefault(K key, V defaultValue) {
+            return inRange(key) ? BSTMap.this.getOrDefault(key, defaultValue)
+                    : defaultValue;
+        }
+
+        @Override
+        public V merge(K key, V value,
+                BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+            checkInRange(key);
+            return BSTMap.this.merge(key, value, remappingFunction);
+        }
+
+        @Override
+        public V compute(K key,
+                BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+            checkInRange(key);
+            return BSTMap.this.compute(key, remappingFunction);
+        }
+
+        @Override
+        public V computeIfAbsent(K key,
+                Function<? super K, ? extends V> mappingFunction) {
+            checkInRange(key);
+            return BSTMap.this.computeIfAbsent(key, mappingFunction);
+        }
+
+        /**
+         * Returns an iterator over the mappings in this view in ascending key
+         * order, with the same properties as BSTMap.iterator().
+         * @return an iterator over the mappings in this view
+         */
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new MapItr(first(), hi, false);
+        }
+
+        /**
+         * Returns an iterator over the mappings in this view in descending
+         * key order.
+         * @return an iterator over the mappings in this view in descending
+         *         order
+         */
+        public Iterator<Entry<K, V>> descendingIterator() {
+            Node<K, V> last = hi == null
+                    ? (root == null ? null : treeMaximum(root))
+                    : floorNode(hi, false);
+            return new MapItr(last, lo, true);
+        }
+
+        private Node<K, V> first() {
+            Node<K, V> first = lo == null
+                    ? (root == null ? null : treeMinimum(root))
+                    : ceilingNode(lo, true);
+            return first == null || hi == null || first.key.compareTo(hi) < 0
+                    ? first : null;
+        }
+
+        private boolean inRange(K key) {
+            return (lo == null || key.compareTo(lo) >= 0)
+                    && (hi == null || key.compareTo(hi) < 0);
+        }
+
+        private void checkInRange(K key) {
+            if (!inRange(key)) {
+                throw new IllegalArgumentException("key out of range");
+            }
+        }
+    }
+
     /**
      * Returns a String representation of the tree, where the Nodes are visited
      * with an inorder traversal.
@@ -368,23 +1260,33 @@ public class BSTMap<K extends Comparable<K>, V> implements MyMap<K, V> {
         return printer.toString();
     }
 
+    /**
+     * Prints the given traversal to standard output. The Nodes are written
+     * as they are visited rather than collected into a String first.
+     * @param type PREORDER, INORDER or POSTORDER; anything else prints
+     *             nothing
+     */
     public void printTraversal(int type) {
         switch (type) {
             case PREORDER:
                 System.out.print("Preorder traversal:       ");
-                System.out.println(preorder());
                 break;
             case INORDER:
                 System.out.print("Inorder traversal:        ");
-                System.out.println(inorder());
                 break;
             case POSTORDER:
                 System.out.print("Postorder traversal:      ");
-                System.out.println(postorder());
                 break;
             default:
                 return;
         }
+        try {
+            appendTraversal(type, System.out);
+        } catch (IOException e) {
+            // PrintStream reports errors through checkError() instead.
+            throw new UncheckedIOException(e);
+        }
+        System.out.println();
     }
 
     /**
@@ -1,14 +1,14 @@
 /**
  * Class for a Node containing a key-value mapping. Each node contains a
- * reference to the left child, right child, and parent.
+ * reference to the left child, right child, and parent, and caches the
+ * height of its subtree and the number of Nodes in it. A Node is the Entry
+ * that the tree maps' iterators return, so iterating allocates nothing.
  * @author Brian S. Borowski
  * @version 1.0 October 19, 2022
  */
-public class Node<K, V> {
+public class Node<K, V> extends Entry<K, V> {
     Node<K, V> left, right, parent;
-    K key;
-    V value;
-    int height;
+    int height, size = 1;
 
     /**
      * Creates a node with a key-value mapping.
@@ -16,16 +16,6 @@ public class Node<K, V> {
      * @param value the specified value to associate with the key
      */
     public Node(K key, V value) {
-        this.key = key;
-        this.value = value;
-    }
-
-    /**
-     * Returns a String representation of the Node with the key and value
-     * inside angled brackets.
-     * @return a String representation of the Node
-     */
-    public String toString() {
-        return "<" + key + ", " + value + ">";
+        super(key, value);
     }
 }
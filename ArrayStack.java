@@ -0,0 +1,102 @@
+import java.util.Arrays;
+
+/**
+ * Array-backed implementation of the MyStack interface. The top of the stack
+ * is the last occupied slot of the array, so push and pop touch a single
+ * slot and only check whether the array must grow or the stack is empty.
+ * @author Amelie Sharples aes2367
+ * @version 1.0 October 18, 2026
+ */
+public class ArrayStack<E> implements MyStack<E> {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private Object[] elements;
+    private int size;
+
+    /**
+     * Constructs an empty stack with an initial capacity of ten.
+     */
+    public ArrayStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty stack with the specified initial capacity.
+     * @param initialCapacity the initial capacity of the stack
+     * @throws IllegalArgumentException if the specified initial capacity
+     *         is negative
+     */
+    public ArrayStack(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " +
+                    initialCapacity);
+        }
+        elements = new Object[initialCapacity];
+    }
+
+    /**
+     * Tests if this stack is empty.
+     * @return true if and only if this stack contains no items;
+     * false otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in this stack.
+     * @return the number of elements in this stack
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all the elements from this stack.
+     */
+    public void clear() {
+        // clear to let GC do its work
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Pushes an item onto the top of this stack.
+     * @param item  the item to be pushed onto this stack
+     */
+    public void push(E item) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2 + 1);
+        }
+        elements[size++] = item;
+    }
+
+    /**
+     * Removes the object at the top of this stack and returns that object.
+     * @return the object at the top of this stack
+     * @throws StackException if the stack is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E pop() throws StackException {
+        if (size == 0) {
+            throw new StackException("Attempt to pop from empty stack.");
+        }
+        E item = (E)elements[--size];
+        elements[size] = null;
+        return item;
+    }
+
+    /**
+     * Looks at the object at the top of this stack without removing it from the
+     * stack.
+     * @return the object at the top of this stack
+     * @throws StackException if the stack is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E peek() throws StackException {
+        if (size == 0) {
+            throw new StackException("Attempt to peek at empty stack.");
+        }
+        return (E)elements[size - 1];
+    }
+}
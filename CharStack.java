@@ -0,0 +1,74 @@
+import java.util.Arrays;
+
+/**
+ * Stack of primitive chars backed by a char[]. It offers the same operations
+ * as MyStack without boxing each char into a Character.
+ * @author Amelie Sharples aes2367
+ * @version 1.0 October 18, 2026
+ */
+public class CharStack {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private char[] elements = new char[DEFAULT_CAPACITY];
+    private int size;
+
+    /**
+     * Tests if this stack is empty.
+     * @return true if and only if this stack contains no items;
+     * false otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in this stack.
+     * @return the number of elements in this stack
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all the elements from this stack.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Pushes an item onto the top of this stack.
+     * @param item  the item to be pushed onto this stack
+     */
+    public void push(char item) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2 + 1);
+        }
+        elements[size++] = item;
+    }
+
+    /**
+     * Removes the item at the top of this stack and returns it.
+     * @return the item at the top of this stack
+     * @throws StackException if the stack is empty
+     */
+    public char pop() throws StackException {
+        if (size == 0) {
+            throw new StackException("Attempt to pop from empty stack.");
+        }
+        return elements[--size];
+    }
+
+    /**
+     * Looks at the item at the top of this stack without removing it from the
+     * stack.
+     * @return the item at the top of this stack
+     * @throws StackException if the stack is empty
+     */
+    public char peek() throws StackException {
+        if (size == 0) {
+            throw new StackException("Attempt to peek at empty stack.");
+        }
+        return elements[size - 1];
+    }
+}
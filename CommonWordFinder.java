@@ -1,15 +1,51 @@
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
 
 /**
  * Class that finds and prints the most common words in a given text.
  * @author Amelie Sharples aes2367
  * @version 1.0.0 December 17, 2022
  */
-public class CommonWordFinder<K , V> implements Comparator<Entry<String, Integer>> {
+public class CommonWordFinder<K , V> {
     private static int limit = 10; //Default limit to print unique words, changes if specified in args[2]
+    private static final int ALL = Integer.MAX_VALUE; //limit used when args[2] is "all"
+    //Bounds on the size of the byte ranges counted in parallel mode
+    private static final long MIN_CHUNK_SIZE = 1 << 16, MAX_CHUNK_SIZE = 8 << 20;
+    //Largest window of the file mapped into memory at once in mmap mode
+    private static final long MAX_MAPPING_SIZE = 1L << 30;
+    //Size of the windows a byte range is read in by parallel mode
+    private static final int READ_WINDOW_SIZE = 1 << 16;
+    //Character classes of the ASCII characters, looked up in CHAR_CLASS while scanning a token
+    private static final byte ILLEGAL = 1, DIGIT = 2, UPPER = 4, NON_ASCII = 8;
+    private static final byte[] CHAR_CLASS = new byte[128];
+
+    static {
+        for(char c : "#@!?,].[;():\"{}$&^*<>".toCharArray()) {
+            CHAR_CLASS[c] = ILLEGAL;
+        }
+        for(char c = '0'; c <= '9'; c++) {
+            CHAR_CLASS[c] = ILLEGAL | DIGIT;
+        }
+        for(char c = 'A'; c <= 'Z'; c++) {
+            CHAR_CLASS[c] = UPPER;
+        }
+    }
 
     /**
      * Main method, reads in arguments and calls methods to read input file, sort the map of unique words,
@@ -19,7 +55,7 @@ public class CommonWordFinder<K , V> implements Comparator<Entry<String, Integer
      */
     public static void main(String[] args) throws IOException {
         if(args.length != 2 && args.length != 3) {
-            System.err.print("Usage: java CommonWordFinder <filename> <bst|avl|hash> [limit]");
+            System.err.print("Usage: java CommonWordFinder <filename> <bst|avl|hash|open|count|parallel|mmap> [limit|all]");
             System.exit(1);
         }
 
@@ -33,18 +69,30 @@ public class CommonWordFinder<K , V> implements Comparator<Entry<String, Integer
         }
 
         MyMap<String, Integer> map = null;
+        Object2IntHashMap<String> counts = null;
+        boolean parallel = false, mapped = false;
         if(mapArg.equals("bst")) {
             map = new BSTMap<>();
         } else if(mapArg.equals("avl")) {
             map = new AVLTreeMap<>();
         } else if(mapArg.equals("hash")) {
             map = new MyHashMap<>();
+        } else if(mapArg.equals("open")) {
+            map = new OpenAddressingHashMap<>();
+        } else if(mapArg.equals("count")) {
+            counts = new Object2IntHashMap<>();
+        } else if(mapArg.equals("parallel")) {
+            parallel = true;
+        } else if(mapArg.equals("mmap")) {
+            mapped = true;
         } else {
             System.err.print("Error: Invalid data structure '" + args[1] + "' received.");
             System.exit(1);
         }
 
-        if(args.length == 3) {
+        if(args.length == 3 && args[2].equals("all")) {
+            limit = ALL;
+        } else if(args.length == 3) {
             try {
                 limit = Integer.parseInt(args[2]);
             } catch (NumberFormatException e) {
@@ -57,9 +105,28 @@ public class CommonWordFinder<K , V> implements Comparator<Entry<String, Integer
             }
         }
         CommonWordFinder<String, Integer> map2 = new CommonWordFinder<>();
-        map2.mappedWordsFromFile(stream, map, args[0]);
-        Entry<String, Integer>[] arr = map2.sortedValuesFromMap(map);
-        map2.printResult(arr);
+        Entry<String, Integer>[] arr;
+        int uniqueWords;
+        if(parallel) {
+            stream.close();
+            counts = map2.countedWordsInParallel(args[0]);
+            uniqueWords = counts.size();
+            arr = map2.mostCommonValues(counts.iterator(), uniqueWords);
+        } else if(mapped) {
+            stream.close();
+            ByteKeyCountMap byteCounts = map2.countedWordsFromMappedFile(args[0]);
+            uniqueWords = byteCounts.size();
+            arr = map2.mostCommonValues(byteCounts.iterator(), uniqueWords);
+        } else if(counts != null) {
+            map2.countedWordsFromFile(stream, counts, args[0]);
+            uniqueWords = counts.size();
+            arr = map2.mostCommonValues(counts.iterator(), uniqueWords);
+        } else {
+            map2.mappedWordsFromFile(stream, map, args[0]);
+            uniqueWords = map.size();
+            arr = map2.mostCommonValues(map.iterator(), uniqueWords);
+        }
+        map2.printResult(arr, uniqueWords);
     }
 
     /**
@@ -69,9 +136,248 @@ public class CommonWordFinder<K , V> implements Comparator<Entry<String, Integer
      * @return map with every unique word
      */
     private MyMap<String, Integer> mappedWordsFromFile(FileInputStream stream, MyMap<String, Integer> map, String args0) {
+        readWords(stream, args0, word -> map.merge(word, 1, Integer::sum));
+        return map;
+    }
+
+    /**
+     * Reads in the words from the input file and counts them in a primitive
+     * int map, so no Integer is boxed per word.
+     * @param stream
+     * @param counts
+     * @return counts with every unique word
+     */
+    private Object2IntHashMap<String> countedWordsFromFile(FileInputStream stream, Object2IntHashMap<String> counts, String args0) {
+        readWords(stream, args0, word -> counts.addTo(word, 1));
+        return counts;
+    }
+
+    /**
+     * Splits the input file into byte ranges that start and end on whitespace, counts each range on a
+     * ForkJoinPool into a map owned by the worker thread, then merges the per-thread maps.
+     * @param fileName
+     * @return counts with every unique word
+     */
+    private Object2IntHashMap<String> countedWordsInParallel(String fileName) {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        ConcurrentLinkedQueue<Object2IntHashMap<String>> partials = new ConcurrentLinkedQueue<>();
+        ThreadLocal<Object2IntHashMap<String>> localCounts = ThreadLocal.withInitial(() -> {
+            Object2IntHashMap<String> counts = new Object2IntHashMap<>();
+            partials.add(counts);
+            return counts;
+        });
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try(FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            long[] bounds = chunkBoundaries(channel, parallelism);
+            List<ForkJoinTask<Void>> tasks = new ArrayList<>();
+            for(int i = 0; i < bounds.length - 1; i++) {
+                long start = bounds[i], end = bounds[i + 1];
+                tasks.add(pool.submit(() -> {
+                    countChunk(channel, start, end, localCounts.get(), fileName);
+                    return null;
+                }));
+            }
+            for(ForkJoinTask<Void> task : tasks) {
+                task.get();
+            }
+        } catch (IOException | ExecutionException e) {
+            System.err.print("Error: An I/O error occurred reading '" + fileName + "'.");
+            System.exit(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.print("Error: Interrupted while reading '" + fileName + "'.");
+            System.exit(1);
+        } finally {
+            pool.shutdown();
+        }
+        Object2IntHashMap<String> counts = new Object2IntHashMap<>();
+        for(Object2IntHashMap<String> partial : partials) {
+            counts.addAll(partial);
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the offsets that split the file into ranges of roughly equal size. Each offset other than
+     * 0 and the file size is moved forward to just past a space or newline, so no word spans two ranges.
+     * @param channel
+     * @param parallelism
+     * @return ascending offsets, starting with 0 and ending with the file size
+     * @throws IOException
+     */
+    private long[] chunkBoundaries(FileChannel channel, int parallelism) throws IOException {
+        long size = channel.size();
+        long chunkSize = Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, size / (parallelism * 4L)));
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        long position = chunkSize;
+        while(position < size) {
+            boolean found = false;
+            while(!found && position < size) {
+                buffer.clear();
+                int read = channel.read(buffer, position);
+                if(read <= 0) {
+                    break;
+                }
+                for(int i = 0; i < read && !found; i++, position++) {
+                    byte b = buffer.get(i);
+                    found = b == ' ' || b == '\n';
+                }
+            }
+            if(position < size) {
+                bounds.add(position);
+            }
+            position += chunkSize;
+        }
+        bounds.add(size);
+        long[] arr = new long[bounds.size()];
+        for(int i = 0; i < arr.length; i++) {
+            arr[i] = bounds.get(i);
+        }
+        return arr;
+    }
+
+    /**
+     * Counts the words in the byte range [start, end) of the file. A range only ends early at a space or
+     * newline, so it can be longer than any array. It is read as a stream of bounded windows instead, and
+     * the reader completes a word cut by the end of one window from the next.
+     * @param channel
+     * @param start
+     * @param end
+     * @param counts
+     * @param fileName
+     * @throws IOException
+     */
+    private void countChunk(FileChannel channel, long start, long end, Object2IntHashMap<String> counts,
+                            String fileName) throws IOException {
+        //Positional reads, so the workers sharing the channel do not move each other's position
+        InputStream range = new InputStream() {
+            private long position = start;
+
+            @Override
+            public int read() throws IOException {
+                byte[] b = new byte[1];
+                return read(b, 0, 1) <= 0 ? -1 : b[0] & 0xFF;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                if(position >= end) {
+                    return -1;
+                }
+                int read = channel.read(ByteBuffer.wrap(b, off, (int)Math.min(len, end - position)), position);
+                if(read > 0) {
+                    position += read;
+                }
+                return read;
+            }
+        };
+        InputStream chunk = new BufferedInputStream(range, READ_WINDOW_SIZE);
+        readWords(new BufferedReader(new InputStreamReader(chunk)), fileName, word -> counts.addTo(word, 1));
+    }
+
+    /**
+     * Memory-maps the input file and tokenizes, lowercases and filters the words directly on the mapped
+     * bytes, counting them in a map keyed by bytes. A String is only created for a word the first time
+     * it is seen.
+     * @param fileName
+     * @return counts with every unique word
+     */
+    private ByteKeyCountMap countedWordsFromMappedFile(String fileName) {
+        ByteKeyCountMap counts = new ByteKeyCountMap();
+        byte[] token = new byte[64];
+        int length = 0;
+        try(FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            long size = channel.size();
+            //A token cut by the end of one window is completed from the next one
+            for(long position = 0; position < size; position += MAX_MAPPING_SIZE) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(MAX_MAPPING_SIZE, size - position));
+                for(int i = 0, n = buffer.limit(); i < n; i++) {
+                    byte b = buffer.get(i);
+                    if(b == ' ' || b == '\n' || b == '\r') {
+                        countToken(token, length, counts);
+                        length = 0;
+                    } else {
+                        if(length == token.length) {
+                            token = Arrays.copyOf(token, length * 2);
+                        }
+                        token[length++] = b;
+                    }
+                }
+            }
+            countToken(token, length, counts);
+        } catch (IOException e) {
+            System.err.print("Error: An I/O error occurred reading '" + fileName + "'.");
+            System.exit(1);
+        }
+        return counts;
+    }
+
+    /**
+     * Cleans the token held in the first length bytes of token in place and counts it. Tokens that are
+     * pure lowercase-able ASCII without digits are handled on the bytes. Tokens with digits or non-ASCII
+     * bytes are rare and go through cleanWord so the result matches the String path exactly.
+     * @param token
+     * @param length
+     * @param counts
+     */
+    private void countToken(byte[] token, int length, ByteKeyCountMap counts) {
+        if(length == 0) {
+            return;
+        }
+        for(int i = 0; i < length; i++) {
+            byte b = token[i];
+            if(b < 0 || (CHAR_CLASS[b] & DIGIT) != 0) {
+                String word = cleanWord(new String(token, 0, length, Charset.defaultCharset()));
+                if(word != null) {
+                    counts.addTo(word, 1);
+                }
+                return;
+            }
+            if(b >= 'A' && b <= 'Z') {
+                token[i] = (byte)(b + ('a' - 'A'));
+            }
+        }
+        int start = 0;
+        while(start < length && token[start] == '-') {
+            start++;
+        }
+        if(start == length) {
+            return;
+        }
+        int end = start;
+        for(int i = start; i < length; i++) {
+            if((CHAR_CLASS[token[i]] & ILLEGAL) == 0) {
+                token[end++] = token[i];
+            }
+        }
+        if(end == start || (end - start == 1 && token[start] == '-')) {
+            return;
+        }
+        counts.addTo(token, start, end - start, 1);
+    }
+
+    /**
+     * Reads in the words from the input file and passes each cleaned word to the sink.
+     * @param stream
+     * @param args0
+     * @param sink
+     */
+    private void readWords(FileInputStream stream, String args0, Consumer<String> sink) {
         //Used stackoverflow to learn about using BufferedReader to parse a file:
         //https://stackoverflow.com/questions/16104616/using-bufferedreader-to-read-text-file
-        BufferedReader input = new BufferedReader(new InputStreamReader(stream));
+        readWords(new BufferedReader(new InputStreamReader(stream)), args0, sink);
+    }
+
+    /**
+     * Reads in the lines from the reader and passes each cleaned word to the sink.
+     * @param input
+     * @param args0
+     * @param sink
+     */
+    private void readWords(BufferedReader input, String args0, Consumer<String> sink) {
         String word = "";
         String line = "";
         while(line != null) {
@@ -84,125 +390,279 @@ public class CommonWordFinder<K , V> implements Comparator<Entry<String, Integer
             if(line != null) {
                 String[] words = line.split("\\ ");
                 for(int i = 0; i < words.length; i++) {
-                    word = words[i];
-                    word = word.toLowerCase();
-                    if(isNumeric(word) || word.isEmpty() || word.equals("-")) {
-                        continue;
-                    }
-                    word = removeIllegalCharacters(word);
-                    if(word.equals("-")) {
-                        continue;
-                    }
-                    if(word.isEmpty()) {
-                        continue;
-                    }
-                    if (map.get(word) != null) {
-                        int newCount = map.get(word) + 1;
-                        map.put(word, newCount);
-                    } else {
-                        map.put(word, 1);
+                    word = cleanWord(words[i]);
+                    if(word != null) {
+                        sink.accept(word);
                     }
                 }
             }
         }
-        return map;
     }
 
     /**
-     * Checks to see if a word is only made of numbers, returns true if so.
+     * Lowercases a token and removes illegal characters from it, returning null if nothing countable is left.
+     * The token is classified with one scan over CHAR_CLASS and, if anything has to change, rebuilt with a
+     * second scan into a single char array. A token that is already clean is returned as is, and no
+     * exceptions or intermediate Strings are created. Only tokens with non-ASCII characters are lowercased
+     * with String.toLowerCase, to keep its full Unicode behavior.
+     * @param word
+     * @return the cleaned word, or null if the token is not a word
+     */
+    String cleanWord(String word) {
+        int length = word.length();
+        int flags = classify(word);
+        if((flags & NON_ASCII) != 0) {
+            word = word.toLowerCase();
+            length = word.length();
+            flags = classify(word);
+        }
+        //A number must contain an ASCII digit, so only those tokens need the numeric scan
+        if(length == 0 || ((flags & DIGIT) != 0 && isNumeric(word)) || word.equals("-")) {
+            return null;
+        }
+        int start = 0;
+        while(start < length && word.charAt(start) == '-') {
+            start++;
+        }
+        if(start == length) {
+            return null;
+        }
+        if(start == 0 && (flags & (ILLEGAL | UPPER)) == 0) {
+            return word;
+        }
+        char[] chars = new char[length - start];
+        int n = 0;
+        for(int i = start; i < length; i++) {
+            char c = word.charAt(i);
+            if(c < CHAR_CLASS.length) {
+                byte cls = CHAR_CLASS[c];
+                if((cls & ILLEGAL) != 0) {
+                    continue;
+                }
+                if((cls & UPPER) != 0) {
+                    c += 'a' - 'A';
+                }
+            }
+            chars[n++] = c;
+        }
+        if(n == 0 || (n == 1 && chars[0] == '-')) {
+            return null;
+        }
+        return new String(chars, 0, n);
+    }
+
+    /**
+     * Returns the union of the character classes of every character in the word.
+     * @param word
+     * @return int
+     */
+    private static int classify(String word) {
+        int flags = 0;
+        for(int i = 0, length = word.length(); i < length; i++) {
+            char c = word.charAt(i);
+            flags |= c < CHAR_CLASS.length ? CHAR_CLASS[c] : NON_ASCII;
+        }
+        return flags;
+    }
+
+    /**
+     * Checks to see if a word is a number that Double.parseDouble accepts, returns true if so. Scans the
+     * characters against the floating-point literal grammar instead of parsing, so no exception is thrown.
      * @param word
      * @return boolean
      */
-    private boolean isNumeric(String word) {
-        try {
-            Double.parseDouble(word);
-            return true;
-        } catch(NumberFormatException e){
+    static boolean isNumeric(String word) {
+        int i = 0, end = word.length();
+        while(i < end && word.charAt(i) <= ' ') {
+            i++;
+        }
+        while(end > i && word.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if(i < end && (word.charAt(i) == '+' || word.charAt(i) == '-')) {
+            i++;
+        }
+        if(word.startsWith("NaN", i)) {
+            return i + 3 == end;
+        }
+        if(word.startsWith("Infinity", i)) {
+            return i + 8 == end;
+        }
+        if(end - i > 2 && word.charAt(i) == '0' && (word.charAt(i + 1) | 0x20) == 'x') {
+            return isHexNumeric(word, i + 2, end);
+        }
+        int digits = 0;
+        for(; i < end && isDigit(word.charAt(i)); i++) {
+            digits++;
+        }
+        if(i < end && word.charAt(i) == '.') {
+            for(i++; i < end && isDigit(word.charAt(i)); i++) {
+                digits++;
+            }
+        }
+        if(digits == 0) {
             return false;
         }
+        if(i < end && (word.charAt(i) | 0x20) == 'e') {
+            i = skipExponent(word, i + 1, end);
+            if(i < 0) {
+                return false;
+            }
+        }
+        return i == end || (i == end - 1 && isFloatSuffix(word.charAt(i)));
     }
 
     /**
-     * Checks to see whether a character is an illegal character, returns true if so.
+     * Checks the part of a hexadecimal floating-point literal after "0x", which must have a binary
+     * exponent.
+     * @param word
      * @param i
+     * @param end
      * @return boolean
      */
-    private boolean isIllegalCharacter(char i) {
-        String str = Character.toString(i);
-        if(isNumeric(str)) {
-            return true;
+    private static boolean isHexNumeric(String word, int i, int end) {
+        int digits = 0;
+        for(; i < end && isHexDigit(word.charAt(i)); i++) {
+            digits++;
         }
-        if(i == '#' || i == '@' || i == '!' || i == '?' || i == ',' || i == ']' ||
-        i == '.' || i == ']' || i == '[' || i == ';' || i == '(' || i == ')' || i == ':' ||
-        i == '"' || i == '{' || i == '}' || i == '$' || i == '&' || i == '^' || i == '*' ||
-        i == '<' || i == '>') {
-            return true;
+        if(i < end && word.charAt(i) == '.') {
+            for(i++; i < end && isHexDigit(word.charAt(i)); i++) {
+                digits++;
+            }
+        }
+        if(digits == 0 || i == end || (word.charAt(i) | 0x20) != 'p') {
+            return false;
         }
-        return false;
+        i = skipExponent(word, i + 1, end);
+        return i == end || (i == end - 1 && isFloatSuffix(word.charAt(i)));
     }
 
     /**
-     * Removes illegal characters from a word, returning the word without illegal characters.
+     * Skips an optionally signed exponent starting at index i.
      * @param word
-     * @return String
+     * @param i
+     * @param end
+     * @return the index after the exponent, or -1 if it has no digits
      */
-    private String removeIllegalCharacters(String word) {
-        while(word.length() > 1 && word.charAt(0) == '-') {
-            word = word.substring(1);
-            if(word.length() == 1 && word.equals("-")) {
-                word = "";
-            }
+    private static int skipExponent(String word, int i, int end) {
+        if(i < end && (word.charAt(i) == '+' || word.charAt(i) == '-')) {
+            i++;
+        }
+        int start = i;
+        while(i < end && isDigit(word.charAt(i))) {
+            i++;
         }
-        char[] wordChar = word.toCharArray();
-        StringBuilder sb = new StringBuilder();
-        for(int i = 0; i < wordChar.length; i++) {
-            if(isIllegalCharacter(wordChar[i])) {
-                continue;
+        return i == start ? -1 : i;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isHexDigit(char c) {
+        return isDigit(c) || ((c | 0x20) >= 'a' && (c | 0x20) <= 'f');
+    }
+
+    private static boolean isFloatSuffix(char c) {
+        return c == 'f' || c == 'F' || c == 'd' || c == 'D';
+    }
+
+    //Used stackoverflow to learn about how Comparators work:
+    //https://stackoverflow.com/questions/2839137/how-to-use-comparator-in-java-to-sort
+    //Orders entries by ascending count, breaking ties by descending word, so the most common words are last.
+    private static final Comparator<Entry<String, Integer>> BY_COUNT = new Comparator<Entry<String, Integer>>() {
+        @Override
+        public int compare(Entry<String, Integer> o1, Entry<String, Integer> o2) {
+            if(o1.value > o2.value) {
+                return 1;
+            } else if(o1.value.intValue() == o2.value.intValue()) {
+                if(o2.key.compareTo(o1.key) > 0) {
+                    return 1;
+                }
             }
-            sb.append(wordChar[i]);
+            return -1;
+        }
+    };
+
+    /**
+     * Returns the entries that printResult will show, in ascending order. When a limit is set, only the
+     * limit most common entries are selected, otherwise all of them are sorted.
+     * @param iter
+     * @param size
+     * @return sorted Entry array
+     */
+    private Entry<String, Integer>[] mostCommonValues(Iterator<Entry<String, Integer>> iter, int size) {
+        if(limit == ALL || limit >= size) {
+            return sortedValues(iter, size);
         }
-        word = sb.toString();
-        return word;
+        return topValues(iter, limit);
     }
 
     /**
-     * Sorts the map into an array of values paired with their count.
-     * @param map
+     * Sorts the entries returned by the iterator into an array of values paired with their count.
+     * Runs in O(n log n).
+     * @param iter
+     * @param size
      * @return sorted Entry array
      */
-    private Entry<String, Integer>[] sortedValuesFromMap(MyMap<String, Integer> map) {
-        Iterator<Entry<String, Integer>> iter = map.iterator();
-        Entry<String, Integer>[] arr = new Entry[map.size()];
+    private Entry<String, Integer>[] sortedValues(Iterator<Entry<String, Integer>> iter, int size) {
+        Entry<String, Integer>[] arr = newEntryArray(size);
         int index = 0;
         while(iter.hasNext()) {
             arr[index] = iter.next();
             index++;
         }
-        //Used stackoverflow to learn about how Comparators work:
-        //https://stackoverflow.com/questions/2839137/how-to-use-comparator-in-java-to-sort
-        Comparator<Entry<String, Integer>> comparator = new Comparator<Entry<String, Integer>>() {
-            @Override
-            public int compare(Entry<String, Integer> o1, Entry<String, Integer> o2) {
-                if(o1.value > o2.value) {
-                    return 1;
-                } else if(o1.value == o2.value) {
-                    if(o2.key.compareTo(o1.key) > 0) {
-                        return 1;
-                    }
-                }
-                return -1;
+        Arrays.sort(arr, BY_COUNT);
+        return arr;
+    }
+
+    /**
+     * Selects the k most common entries returned by the iterator with a min-heap holding at most k
+     * entries, so the rest are never sorted. Runs in O(n log k). k must be smaller than the number
+     * of entries, since it also sizes the heap.
+     * @param iter
+     * @param k
+     * @return the k most common entries, sorted in ascending order
+     */
+    private Entry<String, Integer>[] topValues(Iterator<Entry<String, Integer>> iter, int k) {
+        PriorityQueue<Entry<String, Integer>> heap = new PriorityQueue<>(k, BY_COUNT);
+        while(iter.hasNext()) {
+            Entry<String, Integer> entry = iter.next();
+            if(heap.size() < k) {
+                heap.add(entry);
+            } else if(BY_COUNT.compare(entry, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(entry);
             }
-        };
-        Arrays.sort(arr, comparator);
+        }
+        Entry<String, Integer>[] arr = newEntryArray(heap.size());
+        for(int i = 0; i < arr.length; i++) {
+            arr[i] = heap.poll();
+        }
         return arr;
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Entry<String, Integer>[] newEntryArray(int length) {
+        return new Entry[length];
+    }
+
     /**
      * Takes in the sorted array, and prints out the sorted map in the correct format.
      * @param arr
      */
     public void printResult(Entry<String, Integer>[] arr) {
-        System.out.println("Total unique words: " + arr.length);
+        printResult(arr, arr.length);
+    }
+
+    /**
+     * Takes in the sorted array of the most common words, and prints out the total number of unique
+     * words followed by those words in the correct format.
+     * @param arr
+     * @param uniqueWords
+     */
+    public void printResult(Entry<String, Integer>[] arr, int uniqueWords) {
+        System.out.println("Total unique words: " + uniqueWords);
         int longestWord = 0;
         if(arr.length < limit) {
             limit = arr.length;
@@ -230,22 +690,4 @@ public class CommonWordFinder<K , V> implements Comparator<Entry<String, Integer
             System.lineSeparator();
         }
     }
-
-    /**
-     * Used to compare two different Entry objects.
-     * @param o1 the first object to be compared.
-     * @param o2 the second object to be compared.
-     * @return int
-     */
-    @Override
-    public int compare(Entry<String, Integer> o1, Entry<String, Integer> o2) {
-        if(o1.value > o2.value) {
-            return 1;
-        } else if(o1.value == o2.value) {
-            if(o1.key.compareTo(o2.key) > 0) {
-                return 1;
-            }
-        }
-        return -1;
-    }
 }
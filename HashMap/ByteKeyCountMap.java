@@ -0,0 +1,191 @@
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Class for a counting hash map whose keys are UTF-8 byte sequences. A key
+ * can be looked up and incremented straight from a slice of a byte array, so
+ * a tokenizer working on raw file bytes only allocates when it encounters a
+ * key that is not yet in the map. At that point the bytes are copied and
+ * decoded into the String that is reported by the iterator.
+ * Collisions are resolved with linear probing. Keys are never removed.
+ * @author Amelie Sharples aes2367
+ * @version 1.0 October 18, 2026
+ */
+public class ByteKeyCountMap {
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final double MAX_LOAD_FACTOR = 0.75;
+    private byte[][] keyBytes;
+    private String[] keys;
+    private int[] values, hashes;
+    private int mask, threshold, numEntries;
+
+    /**
+     * Creates an empty map with the default capacity.
+     */
+    public ByteKeyCountMap() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    private void allocate(int capacity) {
+        keyBytes = new byte[capacity][];
+        keys = new String[capacity];
+        values = new int[capacity];
+        hashes = new int[capacity];
+        mask = capacity - 1;
+        threshold = (int)(capacity * MAX_LOAD_FACTOR);
+    }
+
+    private static int hash(byte[] buf, int off, int len) {
+        int h = 0;
+        for (int i = off, end = off + len; i < end; i++) {
+            h = 31 * h + buf[i];
+        }
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns the number of key-value mappings in this map.
+     * @return the number of key-value mappings in this map
+     */
+    public int size() {
+        return numEntries;
+    }
+
+    /**
+     * Returns true if this map contains no key-value mappings.
+     * @return true if this map contains no key-value mappings
+     */
+    public boolean isEmpty() {
+        return numEntries == 0;
+    }
+
+    /**
+     * Adds delta to the count of the key held in buf[off, off + len),
+     * treating a missing key as 0. The bytes are only copied if the key is
+     * new to the map.
+     * @param buf   the array holding the UTF-8 bytes of the key
+     * @param off   the index of the first byte of the key
+     * @param len   the number of bytes in the key
+     * @param delta the amount to add
+     * @return the previous count of the key, or 0 if it was not in the map
+     */
+    public int addTo(byte[] buf, int off, int len, int delta) {
+        int hash = hash(buf, off, len);
+        int index = hash & mask;
+        while (keyBytes[index] != null) {
+            byte[] k = keyBytes[index];
+            if (hashes[index] == hash
+                    && Arrays.equals(k, 0, k.length, buf, off, off + len)) {
+                int oldVal = values[index];
+                values[index] = oldVal + delta;
+                return oldVal;
+            }
+            index = (index + 1) & mask;
+        }
+        keyBytes[index] = Arrays.copyOfRange(buf, off, off + len);
+        keys[index] = new String(keyBytes[index], StandardCharsets.UTF_8);
+        values[index] = delta;
+        hashes[index] = hash;
+        if (++numEntries > threshold) {
+            rehash();
+        }
+        return 0;
+    }
+
+    /**
+     * Adds delta to the count of the specified key, treating a missing key
+     * as 0.
+     * @param key   the key whose count is to be incremented
+     * @param delta the amount to add
+     * @return the previous count of the key, or 0 if it was not in the map
+     */
+    public int addTo(String key, int delta) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        return addTo(bytes, 0, bytes.length, delta);
+    }
+
+    /**
+     * Returns the count of the specified key, or 0 if it is not in the map.
+     * @param key the key whose count is to be returned
+     * @return the count of the key, or 0 if it is not in the map
+     */
+    public int getInt(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        int hash = hash(bytes, 0, bytes.length);
+        int index = hash & mask;
+        while (keyBytes[index] != null) {
+            if (hashes[index] == hash
+                    && Arrays.equals(keyBytes[index], bytes)) {
+                return values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return 0;
+    }
+
+    private void rehash() {
+        byte[][] oldKeyBytes = keyBytes;
+        String[] oldKeys = keys;
+        int[] oldValues = values, oldHashes = hashes;
+        allocate(oldKeyBytes.length * 2);
+        for (int i = 0; i < oldKeyBytes.length; i++) {
+            if (oldKeyBytes[i] != null) {
+                int index = oldHashes[i] & mask;
+                while (keyBytes[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keyBytes[index] = oldKeyBytes[i];
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+                hashes[index] = oldHashes[i];
+            }
+        }
+    }
+
+    /**
+     * Returns an iterator over the mappings in this map in the order in which
+     * they appear in the table, with each key decoded to a String.
+     * @return an iterator over the mappings in this map
+     */
+    public Iterator<Entry<String, Integer>> iterator() {
+        return new MapItr();
+    }
+
+    private class MapItr implements Iterator<Entry<String, Integer>> {
+        private int index;
+
+        MapItr() {
+            advanceToNextEntry();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < keys.length;
+        }
+
+        @Override
+        public Entry<String, Integer> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Entry<String, Integer> e = new Entry<>(keys[index], values[index]);
+            index++;
+            advanceToNextEntry();
+            return e;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        private void advanceToNextEntry() {
+            while (index < keys.length && keys[index] == null) {
+                index++;
+            }
+        }
+    }
+}
@@ -0,0 +1,506 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Class for a thread-safe hash map that uses lock striping. The keys are
+ * spread over a fixed number of segments, each of which is a small chained
+ * hash table guarded by its own read-write lock. Readers of a segment proceed
+ * in parallel, writers only block operations on the same segment, and each
+ * segment resizes independently while the others stay available.
+ * @author Amelie Sharples aes2367
+ * @version 1.0 October 18, 2026
+ */
+public class ConcurrentMyHashMap<K extends Comparable<K>, V>
+        implements MyMap<K, V> {
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+    private static final int SEGMENT_INITIAL_CAPACITY = 16;
+    private static final double MAX_LOAD_FACTOR = 0.75;
+    private final Segment<K, V>[] segments;
+    private final int segmentShift;
+
+    /**
+     * Creates an empty map with 16 segments.
+     */
+    public ConcurrentMyHashMap() {
+        this(DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Creates an empty map with enough segments for the given number of
+     * concurrently writing threads. The number of segments is rounded up to a
+     * power of two.
+     * @param concurrencyLevel the expected number of concurrent writers
+     * @throws IllegalArgumentException if concurrencyLevel is not positive
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ConcurrentMyHashMap(int concurrencyLevel) {
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("Illegal Concurrency Level: " +
+                    concurrencyLevel);
+        }
+        int numSegments = 1, bits = 0;
+        while (numSegments < concurrencyLevel && numSegments < (1 << 16)) {
+            numSegments <<= 1;
+            bits++;
+        }
+        segmentShift = 32 - bits;
+        segments = new Segment[numSegments];
+        for (int i = 0; i < numSegments; i++) {
+            segments[i] = new Segment<>();
+        }
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns the segment responsible for the given hash. Segments are chosen
+     * by the high bits of the hash and buckets by the low bits, so the two
+     * choices are independent.
+     * @param hash the mixed hash of a key
+     * @return the segment that owns the key
+     */
+    private Segment<K, V> segmentFor(int hash) {
+        return segmentShift == 32 ? segments[0]
+                : segments[hash >>> segmentShift];
+    }
+
+    /**
+     * Returns the number of key-value mappings in this map. If other threads
+     * are modifying the map, the result is only an estimate.
+     * @return the number of key-value mappings in this map
+     */
+    @Override
+    public int size() {
+        long sum = 0;
+        for (Segment<K, V> segment : segments) {
+            sum += segment.count;
+        }
+        return (int)Math.min(sum, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns true if this map contains no key-value mappings.
+     * @return true if this map contains no key-value mappings
+     */
+    @Override
+    public boolean isEmpty() {
+        for (Segment<K, V> segment : segments) {
+            if (segment.count != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or null if this
+     * map contains no mapping for the key.
+     * @param  key the key whose associated value is to be returned
+     * @return the value to which the specified key is mapped, or null if this
+     *         map contains no mapping for the key
+     */
+    @Override
+    public V get(K key) {
+        return getOrDefault(key, null);
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or defaultValue
+     * if this map contains no mapping for the key.
+     * @param key          the key whose associated value is to be returned
+     * @param defaultValue the value to return if the key is not mapped
+     * @return the value to which the specified key is mapped, or defaultValue
+     *         if this map contains no mapping for the key
+     */
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        int hash = hash(key);
+        Segment<K, V> segment = segmentFor(hash);
+        segment.lock.readLock().lock();
+        try {
+            Entry<K, V> entry = segment.find(hash, key);
+            return entry != null ? entry.value : defaultValue;
+        } finally {
+            segment.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Associates the specified value with the specified key in this map. If the
+     * map previously contained a mapping for the key, the old value is replaced
+     * by the specified value.
+     * @param key   the key with which the specified value is to be associated
+     * @param value the value to be associated with the specified key
+     * @return the previous value associated with key, or null if there was no
+     *         mapping for key
+     */
+    @Override
+    public V put(K key, V value) {
+        int hash = hash(key);
+        Segment<K, V> segment = segmentFor(hash);
+        segment.lock.writeLock().lock();
+        try {
+            Entry<K, V> entry = segment.find(hash, key);
+            if (entry != null) {
+                V oldVal = entry.value;
+                entry.value = value;
+                return oldVal;
+            }
+            segment.add(hash, key, value);
+            return null;
+        } finally {
+            segment.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the mapping for a key from this map if it is present.
+     * @param key the key whose mapping is to be removed from the map
+     * @return the previous value associated with key, or null if there was no
+     *         mapping for key
+     */
+    @Override
+    public V remove(K key) {
+        int hash = hash(key);
+        Segment<K, V> segment = segmentFor(hash);
+        segment.lock.writeLock().lock();
+        try {
+            Entry<K, V> entry = segment.unlink(hash, key);
+            return entry != null ? entry.value : null;
+        } finally {
+            segment.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * If the specified key is not mapped, associates it with the given value.
+     * Otherwise, replaces the mapped value with the result of the remapping
+     * function applied to the old and the given value, or removes the mapping
+     * if that result is null. The whole operation is atomic.
+     * @param key               the key with which the value is to be merged
+     * @param value             the value to merge with the existing value
+     * @param remappingFunction the function that combines the old and the
+     *                          given value
+     * @return the new value associated with key, or null if the mapping was
+     *         removed
+     */
+    @Override
+    public V merge(K key, V value,
+            BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        int hash = hash(key);
+        Segment<K, V> segment = segmentFor(hash);
+        segment.lock.writeLock().lock();
+        try {
+            Entry<K, V> entry = segment.find(hash, key);
+            if (entry == null) {
+                segment.add(hash, key, value);
+                return value;
+            }
+            V newVal = entry.value == null ? value
+                    : remappingFunction.apply(entry.value, value);
+            if (newVal == null) {
+                segment.unlink(hash, key);
+            } else {
+                entry.value = newVal;
+            }
+            return newVal;
+        } finally {
+            segment.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Computes a new value for the specified key from the key and its current
+     * value (null if there is none). If the result is null, the mapping is
+     * removed (or not created). The whole operation is atomic.
+     * @param key               the key whose value is to be computed
+     * @param remappingFunction the function that computes the new value
+     * @return the new value associated with key, or null if there is none
+     */
+    @Override
+    public V compute(K key,
+            BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        int hash = hash(key);
+        Segment<K, V> segment = segmentFor(hash);
+        segment.lock.writeLock().lock();
+        try {
+            Entry<K, V> entry = segment.find(hash, key);
+            V newVal = remappingFunction.apply(key,
+                    entry != null ? entry.value : null);
+            if (entry == null) {
+                if (newVal != null) {
+                    segment.add(hash, key, newVal);
+                }
+            } else if (newVal == null) {
+                segment.unlink(hash, key);
+            } else {
+                entry.value = newVal;
+            }
+            return newVal;
+        } finally {
+            segment.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * If the specified key is not mapped to a value, computes its value with
+     * the mapping function and enters it into the map unless it is null. The
+     * whole operation is atomic.
+     * @param key             the key whose value is to be computed
+     * @param mappingFunction the function that computes the value
+     * @return the current (existing or computed) value associated with key,
+     *         or null if the computed value is null
+     */
+    @Override
+    public V computeIfAbsent(K key,
+                             Function<? super K, ? extends V> mappingFunction) {
+        int hash = hash(key);
+        Segment<K, V> segment = segmentFor(hash);
+        segment.lock.writeLock().lock();
+        try {
+            Entry<K, V> entry = segment.find(hash, key);
+            if (entry != null) {
+                if (entry.value == null) {
+                    entry.value = mappingFunction.apply(key);
+                }
+                return entry.value;
+            }
+            V newVal = mappingFunction.apply(key);
+            if (newVal != null) {
+                segment.add(hash, key, newVal);
+            }
+            return newVal;
+        } finally {
+            segment.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns an iterator over copies of the Entries in this map. Each segment
+     * is copied under its read lock when the iterator reaches it, so the
+     * iterator never throws while other threads modify the map, but it may or
+     * may not reflect changes made after it was created.
+     * @return an iterator over the Entries in this map
+     */
+    public Iterator<Entry<K, V>> iterator() {
+        return new MapItr();
+    }
+
+    private class MapItr implements Iterator<Entry<K, V>> {
+        private final List<Entry<K, V>> buffer = new ArrayList<>();
+        private int segmentIndex, bufferIndex;
+
+        MapItr() {
+            fill();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return bufferIndex < buffer.size();
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Entry<K, V> e = buffer.get(bufferIndex++);
+            if (bufferIndex == buffer.size()) {
+                fill();
+            }
+            return e;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        private void fill() {
+            buffer.clear();
+            bufferIndex = 0;
+            while (buffer.isEmpty() && segmentIndex < segments.length) {
+                segments[segmentIndex++].copyInto(buffer);
+            }
+        }
+    }
+
+    /**
+     * One stripe of the map: a chained hash table with a power-of-two number
+     * of buckets, guarded by its own lock.
+     */
+    private static final class Segment<K, V> {
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        Entry<K, V>[] table;
+        volatile int count;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Segment() {
+            table = new Entry[SEGMENT_INITIAL_CAPACITY];
+        }
+
+        /** Must be called with the read or write lock held. */
+        Entry<K, V> find(int hash, K key) {
+            Entry<K, V> entry = table[hash & (table.length - 1)];
+            while (entry != null && !entry.key.equals(key)) {
+                entry = entry.next;
+            }
+            return entry;
+        }
+
+        /** Must be called with the write lock held. */
+        void add(int hash, K key, V value) {
+            int index = hash & (table.length - 1);
+            Entry<K, V> head = new Entry<>(key, value);
+            head.next = table[index];
+            table[index] = head;
+            count++;
+            if (count > table.length * MAX_LOAD_FACTOR) {
+                rehash();
+            }
+        }
+
+        /** Must be called with the write lock held. */
+        Entry<K, V> unlink(int hash, K key) {
+            int index = hash & (table.length - 1);
+            Entry<K, V> prev = null;
+            for (Entry<K, V> entry = table[index]; entry != null;
+                 entry = entry.next) {
+                if (entry.key.equals(key)) {
+                    if (prev == null) {
+                        table[index] = entry.next;
+                    } else {
+                        prev.next = entry.next;
+                    }
+                    count--;
+                    return entry;
+                }
+                prev = entry;
+            }
+            return null;
+        }
+
+        /**
+         * Doubles this segment's table, relinking the existing Entries. Only
+         * this segment is locked while it grows.
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private void rehash() {
+            Entry<K, V>[] oldTable = table;
+            Entry<K, V>[] newTable = new Entry[oldTable.length * 2];
+            int newMask = newTable.length - 1;
+            for (Entry<K, V> entry : oldTable) {
+                while (entry != null) {
+                    Entry<K, V> next = entry.next;
+                    int index = hash(entry.key) & newMask;
+                    entry.next = newTable[index];
+                    newTable[index] = entry;
+                    entry = next;
+                }
+            }
+            table = newTable;
+        }
+
+        void copyInto(List<Entry<K, V>> buffer) {
+            lock.readLock().lock();
+            try {
+                for (Entry<K, V> entry : table) {
+                    for (; entry != null; entry = entry.next) {
+                        buffer.add(new Entry<>(entry.key, entry.value));
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Stress test. Several threads hammer the map at once:
+     * 1. every thread increments the same shared counters with merge, and
+     *    the final counts must equal threads * rounds;
+     * 2. every thread puts, gets and removes its own keys while the others do
+     *    the same, checking each result against a private sequential model.
+     *    Since each key is only ever touched by one thread, every operation
+     *    must behave exactly as it would on a single-threaded map.
+     * @param args optional number of threads
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int numThreads = args.length > 0 ? Integer.parseInt(args[0])
+                : Runtime.getRuntime().availableProcessors() * 2;
+        int sharedKeys = 1000, rounds = 200, privateOps = 200000;
+        ConcurrentMyHashMap<Integer, Integer> map =
+                new ConcurrentMyHashMap<>();
+        AtomicInteger failures = new AtomicInteger();
+        Thread[] threads = new Thread[numThreads];
+        for (int t = 0; t < numThreads; t++) {
+            final int id = t;
+            threads[t] = new Thread(() -> {
+                Random random = new Random(id);
+                for (int r = 0; r < rounds; r++) {
+                    for (int k = 0; k < sharedKeys; k++) {
+                        map.merge(k, 1, Integer::sum);
+                    }
+                }
+                HashMap<Integer, Integer> model = new HashMap<>();
+                for (int i = 0; i < privateOps; i++) {
+                    int key = sharedKeys + id
+                            + numThreads * random.nextInt(5000);
+                    Integer expected, received;
+                    switch (random.nextInt(3)) {
+                        case 0:
+                            expected = model.put(key, i);
+                            received = map.put(key, i);
+                            break;
+                        case 1:
+                            expected = model.get(key);
+                            received = map.get(key);
+                            break;
+                        default:
+                            expected = model.remove(key);
+                            received = map.remove(key);
+                    }
+                    if (!Objects.equals(expected, received)) {
+                        failures.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        int badCounts = 0;
+        for (int k = 0; k < sharedKeys; k++) {
+            if (map.get(k) != numThreads * rounds) {
+                badCounts++;
+            }
+        }
+        int iterated = 0;
+        Iterator<Entry<Integer, Integer>> iter = map.iterator();
+        while (iter.hasNext()) {
+            iter.next();
+            iterated++;
+        }
+        System.out.println("Threads            : " + numThreads);
+        System.out.println("Size               : " + map.size());
+        System.out.println("Iterated entries   : " + iterated);
+        System.out.println("Wrong shared counts: " + badCounts);
+        System.out.println("Wrong op results   : " + failures.get());
+        if (badCounts != 0 || failures.get() != 0 || iterated != map.size()) {
+            System.exit(1);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 import java.util.Iterator;
 import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -15,12 +17,128 @@ public class MyHashMap<K extends Comparable<K>, V> implements MyMap<K, V> {
             101, 211, 431, 863, 1733, 3467, 6947, 13901, 27803, 55609, 111227,
             222461 };
     private static final double MAX_LOAD_FACTOR = 0.75;
+    // Largest array length the JVM reliably allows.
+    private static final int MAX_TABLE_SIZE = Integer.MAX_VALUE - 8;
+    // Number of old buckets moved per put or remove during an incremental
+    // resize. Moving at least 2 guarantees the old table is drained before
+    // the new one can fill up and need resizing again.
+    private static final int MIGRATION_STEP = 4;
     private Entry<K, V>[] table;
-    private int primeIndex, numEntries;
+    // While an incremental resize is in progress, the buckets of oldTable at
+    // indexes >= migrateIndex have not yet been moved into table.
+    private Entry<K, V>[] oldTable;
+    private int numEntries, migrateIndex;
+    private final boolean incrementalResize;
 
-    @SuppressWarnings("unchecked")
     public MyHashMap() {
-        table = new Entry[primes[primeIndex]];
+        this(false);
+    }
+
+    /**
+     * Creates an empty MyHashMap. If incrementalResize is true, growing the
+     * table does not move every entry at once. Instead, each subsequent put
+     * or remove moves a few buckets from the old table, so no single
+     * operation pays for the whole migration.
+     * @param incrementalResize whether to spread resizing across operations
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public MyHashMap(boolean incrementalResize) {
+        this.incrementalResize = incrementalResize;
+        table = new Entry[primes[0]];
+    }
+
+    /**
+     * Creates an empty MyHashMap with enough buckets to hold expectedSize
+     * mappings without exceeding the max load factor, so filling it to that
+     * size never triggers a rehash.
+     * @param expectedSize the number of mappings the map is expected to hold
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    public MyHashMap(int expectedSize) {
+        this(expectedSize, false);
+    }
+
+    /**
+     * Creates an empty MyHashMap presized for expectedSize mappings that
+     * optionally resizes incrementally once it grows beyond that size.
+     * @param expectedSize      the number of mappings the map is expected
+     *                          to hold
+     * @param incrementalResize whether to spread resizing across operations
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public MyHashMap(int expectedSize, boolean incrementalResize) {
+        this.incrementalResize = incrementalResize;
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Illegal Size: " +
+                    expectedSize);
+        }
+        long minTableSize = (long)Math.ceil(expectedSize / MAX_LOAD_FACTOR);
+        table = new Entry[tableSizeAtLeast(
+                (int)Math.min(minTableSize, MAX_TABLE_SIZE))];
+    }
+
+    /**
+     * Returns the smallest prime table size that is at least minSize. Sizes
+     * are taken from the primes table while it lasts, and computed beyond it,
+     * so the map can keep growing for as long as memory allows.
+     * @param minSize the minimum number of buckets required
+     * @return a prime number of buckets that is at least minSize
+     */
+    private static int tableSizeAtLeast(int minSize) {
+        for (int prime : primes) {
+            if (prime >= minSize) {
+                return prime;
+            }
+        }
+        int candidate = minSize | 1;
+        while (candidate < MAX_TABLE_SIZE && !isPrime(candidate)) {
+            candidate += 2;
+        }
+        return Math.min(candidate, MAX_TABLE_SIZE);
+    }
+
+    private static boolean isPrime(int n) {
+        if (n % 2 == 0) {
+            return n == 2;
+        }
+        for (int d = 3; (long)d * d <= n; d += 2) {
+            if (n % d == 0) {
+                return false;
+            }
+        }
+        return n > 1;
+    }
+
+    /**
+     * Returns the hash of the specified key. The high bits of the hash code
+     * are folded into the low bits and the sign bit is dropped, so negative
+     * hash codes still map to a valid bucket.
+     * @param key the key to hash
+     * @return a non-negative hash of the key
+     */
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & 0x7fffffff;
+    }
+
+    private static int indexFor(int hash, int tableSize) {
+        return hash % tableSize;
+    }
+
+    /**
+     * Returns the table whose bucket currently holds keys with the given
+     * hash. During an incremental resize, that is the old table if the
+     * key's old bucket has not been migrated yet.
+     * @param hash the hash of the key
+     * @return the table in which to look up the key
+     */
+    private Entry<K, V>[] tableFor(int hash) {
+        if (oldTable != null
+                && indexFor(hash, oldTable.length) >= migrateIndex) {
+            return oldTable;
+        }
+        return table;
     }
 
     /**
@@ -58,27 +176,16 @@ public class MyHashMap<K extends Comparable<K>, V> implements MyMap<K, V> {
      */
     @Override
     public V get(K key) {
-        int index = key.hashCode() % getTableSize();
-        if(table[index] == null) {
-            return null;
-        } else {
-            Entry<K, V> entry = table[index];
-            if(entry.key.equals(key)) {
+        int hash = hash(key);
+        Entry<K, V>[] t = tableFor(hash);
+        Entry<K, V> entry = t[indexFor(hash, t.length)];
+        while (entry != null) {
+            if (entry.key.equals(key)) {
                 return entry.value;
             }
-            Entry<K, V> prev = null;
-            while(entry != null) {
-                prev = entry;
-                entry = entry.next;
-                if(entry == null) {
-                    return null;
-                } else if (entry.key.equals(key)) {
-                    prev.next = entry;
-                    return entry.value;
-                }
-            }
-            return null;
+            entry = entry.next;
         }
+        return null;
     }
 
     /**
@@ -92,68 +199,128 @@ public class MyHashMap<K extends Comparable<K>, V> implements MyMap<K, V> {
      */
     @Override
     public V put(K key, V value) {
-        int index = key.hashCode() % getTableSize();
-        if(table[index] == null) {
-            Entry<K, V> entry = new Entry<>(key, value);
-            table[index] = entry;
-            numEntries++;
-            if(getLoadFactor() > MAX_LOAD_FACTOR) {
-                if(primeIndex < primes.length-1) {
-                    primeIndex++;
-                    rehash();
-                }
-            }
-        } else if(table[index].key.equals(key)) {
-            V oldVal = table[index].value;
-            table[index].value = value;
-            return oldVal;
-        } else if(get(key) != null) {
-            Entry<K, V> entry = table[index];
-            while(!entry.key.equals(key)) {
-                entry = entry.next;
-            }
-            V oldVal = entry.value;
-            entry.value = value;
-            return oldVal;
-        } else {
-            Entry<K, V> head = new Entry<>(key, value);
-            Entry<K, V> tail = table[index];
-            head.next = tail;
-            table[index] = head;
-            numEntries++;
-            if(getLoadFactor() > MAX_LOAD_FACTOR) {
-                if(primeIndex < primes.length-1) {
-                    primeIndex++;
-                    rehash();
-                }
+        migrateBuckets();
+        int hash = hash(key);
+        Entry<K, V>[] t = tableFor(hash);
+        int index = indexFor(hash, t.length);
+        for (Entry<K, V> entry = t[index]; entry != null; entry = entry.next) {
+            if (entry.key.equals(key)) {
+                V oldVal = entry.value;
+                entry.value = value;
+                return oldVal;
             }
         }
+        addEntry(t, index, key, value);
         return null;
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Links a new mapping at the head of the given bucket and grows the table
+     * if the max load factor is exceeded.
+     * @param t     the table that owns the bucket
+     * @param index the index of the bucket
+     * @param key   the key of the new mapping
+     * @param value the value of the new mapping
+     */
+    private void addEntry(Entry<K, V>[] t, int index, K key, V value) {
+        Entry<K, V> head = new Entry<>(key, value);
+        head.next = t[index];
+        t[index] = head;
+        numEntries++;
+        if (getLoadFactor() > MAX_LOAD_FACTOR) {
+            rehash();
+        }
+    }
+
+    /**
+     * Unlinks the given entry from its bucket.
+     * @param t     the table that owns the bucket
+     * @param index the index of the bucket
+     * @param prev  the entry preceding entry in the chain, or null if entry
+     *              is the head
+     * @param entry the entry to unlink
+     */
+    private void removeEntry(Entry<K, V>[] t, int index, Entry<K, V> prev,
+                             Entry<K, V> entry) {
+        if (prev == null) {
+            t[index] = entry.next;
+        } else {
+            prev.next = entry.next;
+        }
+        numEntries--;
+    }
+
+    /**
+     * Grows the table. The existing Entry nodes are relinked into the new
+     * table rather than copied, so resizing allocates nothing but the new
+     * bucket array. In incremental mode the old table is kept and drained a
+     * few buckets at a time by migrateBuckets().
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
     private void rehash() {
-        int newTableSize = primes[primeIndex];
-        Entry<K, V>[] newTable = new Entry[newTableSize];
-
-        for(int i = 0; i < table.length; i++) {
-            Entry<K, V> entry = table[i];
-            while(entry != null) {
-                //inserting into new table:
-                int entryIndex = entry.key.hashCode() % newTableSize;
-                if (newTable[entryIndex] == null) {
-                    Entry<K, V> head = new Entry<>(entry.key, entry.value);
-                    newTable[entryIndex] = head;
-                } else {
-                    Entry<K, V> tail = newTable[entryIndex];
-                    Entry<K, V> head = new Entry<>(entry.key, entry.value);
-                    newTable[entryIndex] = head;
-                    newTable[entryIndex].next = tail;
-                }
-                entry = entry.next;
+        if (table.length >= MAX_TABLE_SIZE) {
+            return;
+        }
+        finishMigration();
+        int newTableSize = tableSizeAtLeast(
+                (int)Math.min(table.length * 2L + 1, MAX_TABLE_SIZE));
+        Entry<K, V>[] old = table;
+        table = new Entry[newTableSize];
+        if (incrementalResize) {
+            oldTable = old;
+            migrateIndex = 0;
+        } else {
+            for (int i = 0; i < old.length; i++) {
+                moveBucket(old, i);
             }
         }
-        table = newTable;
+    }
+
+    /**
+     * Relinks every Entry in the given bucket of the old table into the
+     * current table.
+     * @param old   the table being drained
+     * @param index the index of the bucket to move
+     */
+    private void moveBucket(Entry<K, V>[] old, int index) {
+        Entry<K, V> entry = old[index];
+        old[index] = null;
+        while (entry != null) {
+            Entry<K, V> next = entry.next;
+            int entryIndex = indexFor(hash(entry.key), table.length);
+            entry.next = table[entryIndex];
+            table[entryIndex] = entry;
+            entry = next;
+        }
+    }
+
+    /**
+     * Moves the next few buckets of an in-progress incremental resize.
+     */
+    private void migrateBuckets() {
+        if (oldTable == null) {
+            return;
+        }
+        for (int i = 0; i < MIGRATION_STEP && migrateIndex < oldTable.length;
+             i++) {
+            moveBucket(oldTable, migrateIndex++);
+        }
+        if (migrateIndex == oldTable.length) {
+            oldTable = null;
+        }
+    }
+
+    /**
+     * Moves all remaining buckets of an in-progress incremental resize.
+     */
+    private void finishMigration() {
+        if (oldTable == null) {
+            return;
+        }
+        while (migrateIndex < oldTable.length) {
+            moveBucket(oldTable, migrateIndex++);
+        }
+        oldTable = null;
     }
 
     /**
@@ -164,35 +331,144 @@ public class MyHashMap<K extends Comparable<K>, V> implements MyMap<K, V> {
      */
     @Override
     public V remove(K key) {
-        if(get(key) == null) {
-            return null;
-        } else {
-            int index = key.hashCode() % getTableSize();
-            Entry<K, V> entry = table[index];
-            if(entry.key.equals(key)) { //if head is key
-                V oldVal = entry.value;
-                if(entry.next == null) {
-                    table[index] = null;
-                    numEntries--;
-                    return oldVal;
+        migrateBuckets();
+        int hash = hash(key);
+        Entry<K, V>[] t = tableFor(hash);
+        int index = indexFor(hash, t.length);
+        Entry<K, V> prev = null;
+        for (Entry<K, V> entry = t[index]; entry != null; entry = entry.next) {
+            if (entry.key.equals(key)) {
+                removeEntry(t, index, prev, entry);
+                return entry.value;
+            }
+            prev = entry;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or defaultValue
+     * if this map contains no mapping for the key.
+     * @param key          the key whose associated value is to be returned
+     * @param defaultValue the value to return if the key is not mapped
+     * @return the value to which the specified key is mapped, or defaultValue
+     *         if this map contains no mapping for the key
+     */
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        int hash = hash(key);
+        Entry<K, V>[] t = tableFor(hash);
+        Entry<K, V> entry = t[indexFor(hash, t.length)];
+        while (entry != null) {
+            if (entry.key.equals(key)) {
+                return entry.value;
+            }
+            entry = entry.next;
+        }
+        return defaultValue;
+    }
+
+    /**
+     * If the specified key is not mapped, associates it with the given value.
+     * Otherwise, replaces the mapped value with the result of the remapping
+     * function applied to the old and the given value, or removes the mapping
+     * if that result is null. The chain is walked only once.
+     * @param key               the key with which the value is to be merged
+     * @param value             the value to merge with the existing value
+     * @param remappingFunction the function that combines the old and the
+     *                          given value
+     * @return the new value associated with key, or null if the mapping was
+     *         removed
+     */
+    @Override
+    public V merge(K key, V value,
+            BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        migrateBuckets();
+        int hash = hash(key);
+        Entry<K, V>[] t = tableFor(hash);
+        int index = indexFor(hash, t.length);
+        Entry<K, V> prev = null;
+        for (Entry<K, V> entry = t[index]; entry != null; entry = entry.next) {
+            if (entry.key.equals(key)) {
+                V newVal = entry.value == null ? value
+                        : remappingFunction.apply(entry.value, value);
+                if (newVal == null) {
+                    removeEntry(t, index, prev, entry);
                 } else {
-                    table[index] = entry.next;
-                    numEntries--;
-                    return oldVal;
+                    entry.value = newVal;
                 }
-            } //end of head being key
-            Entry<K, V> prev = null;
-            while(entry.next != null) {
-                prev = entry;
-                entry = entry.next;
-                if(entry.key.equals(key)) {
-                    prev.next = entry.next;
-                    numEntries--;
-                    return entry.value;
+                return newVal;
+            }
+            prev = entry;
+        }
+        addEntry(t, index, key, value);
+        return value;
+    }
+
+    /**
+     * Computes a new value for the specified key from the key and its current
+     * value (null if there is none). If the result is null, the mapping is
+     * removed (or not created). The chain is walked only once.
+     * @param key               the key whose value is to be computed
+     * @param remappingFunction the function that computes the new value
+     * @return the new value associated with key, or null if there is none
+     */
+    @Override
+    public V compute(K key,
+            BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        migrateBuckets();
+        int hash = hash(key);
+        Entry<K, V>[] t = tableFor(hash);
+        int index = indexFor(hash, t.length);
+        Entry<K, V> prev = null;
+        for (Entry<K, V> entry = t[index]; entry != null; entry = entry.next) {
+            if (entry.key.equals(key)) {
+                V newVal = remappingFunction.apply(key, entry.value);
+                if (newVal == null) {
+                    removeEntry(t, index, prev, entry);
+                } else {
+                    entry.value = newVal;
                 }
+                return newVal;
             }
-            return null;
+            prev = entry;
+        }
+        V newVal = remappingFunction.apply(key, null);
+        if (newVal != null) {
+            addEntry(t, index, key, newVal);
         }
+        return newVal;
+    }
+
+    /**
+     * If the specified key is not mapped to a value, computes its value with
+     * the mapping function and enters it into the map unless it is null. The
+     * chain is walked only once.
+     * @param key             the key whose value is to be computed
+     * @param mappingFunction the function that computes the value
+     * @return the current (existing or computed) value associated with key,
+     *         or null if the computed value is null
+     */
+    @Override
+    public V computeIfAbsent(K key,
+                             Function<? super K, ? extends V> mappingFunction) {
+        migrateBuckets();
+        int hash = hash(key);
+        Entry<K, V>[] t = tableFor(hash);
+        int index = indexFor(hash, t.length);
+        for (Entry<K, V> entry = t[index]; entry != null; entry = entry.next) {
+            if (entry.key.equals(key)) {
+                if (entry.value == null) {
+                    entry.value = mappingFunction.apply(key);
+                }
+                return entry.value;
+            }
+        }
+        V newVal = mappingFunction.apply(key);
+        if (newVal != null) {
+            addEntry(t, index, key, newVal);
+        }
+        return newVal;
     }
 
     /**
@@ -201,7 +477,7 @@ public class MyHashMap<K extends Comparable<K>, V> implements MyMap<K, V> {
      * @return the load factor of this MyHashMap
      */
     public double getLoadFactor() {
-        return (double)numEntries / primes[primeIndex];
+        return (double)numEntries / table.length;
     }
 
     /**
@@ -212,8 +488,21 @@ public class MyHashMap<K extends Comparable<K>, V> implements MyMap<K, V> {
      * @return the maximum length of a chain in this MyHashMap
      */
     public int computeMaxChainLength() {
+        int maxChainLength = oldTable == null ? 0
+                : computeMaxChainLength(oldTable, migrateIndex);
+        return Math.max(maxChainLength, computeMaxChainLength(table, 0));
+    }
+
+    /**
+     * Returns the maximum length of a chain in the given buckets, starting at
+     * index from. Reading does not migrate, so during an incremental resize
+     * the unmigrated buckets of the old table are measured separately.
+     */
+    private static <K, V> int computeMaxChainLength(Entry<K, V>[] buckets,
+                                                    int from) {
         int maxChainLength = 0;
-        for (Entry<K, V> chain : table) {
+        for (int i = from; i < buckets.length; i++) {
+            Entry<K, V> chain = buckets[i];
             if (chain != null) {
                 int currentChainLength = 0;
                 Entry<K, V> chainPtr = chain;
@@ -241,17 +530,37 @@ public class MyHashMap<K extends Comparable<K>, V> implements MyMap<K, V> {
         if (numEntries == 0) {
             return "HashMap is empty.";
         }
+        StringBuilder builder = new StringBuilder();
+        String newLine = System.getProperty("line.separator");
+        if (oldTable != null) {
+            // Reading does not migrate; show the buckets still waiting in
+            // the old table ahead of the new one.
+            builder.append("Unmigrated buckets of the old table:");
+            builder.append(newLine);
+            appendBuckets(builder, oldTable, migrateIndex);
+            builder.append("New table:");
+            builder.append(newLine);
+        }
+        appendBuckets(builder, table, 0);
+        return builder.toString();
+    }
+
+    /**
+     * Appends each non-empty bucket of the given table from index from on,
+     * one line per bucket, as its index followed by its chain.
+     */
+    private static <K, V> void appendBuckets(StringBuilder builder,
+                                             Entry<K, V>[] buckets, int from) {
         int maxIndex;
-        for (maxIndex = table.length - 1; maxIndex >= 0; maxIndex--) {
-            if (table[maxIndex] != null) {
+        for (maxIndex = buckets.length - 1; maxIndex >= from; maxIndex--) {
+            if (buckets[maxIndex] != null) {
                 break;
             }
         }
         int maxIndexWidth = String.valueOf(maxIndex).length();
-        StringBuilder builder = new StringBuilder();
         String newLine = System.getProperty("line.separator");
-        for (int i = 0; i < table.length; i++) {
-            Entry<K, V> chain = table[i];
+        for (int i = from; i <= maxIndex; i++) {
+            Entry<K, V> chain = buckets[i];
             if (chain != null) {
                 int indexWidth = String.valueOf(i).length();
                 builder.append(" ".repeat(maxIndexWidth - indexWidth));
@@ -267,12 +576,13 @@ public class MyHashMap<K extends Comparable<K>, V> implements MyMap<K, V> {
                 builder.append(newLine);
             }
         }
-        return builder.toString();
     }
 
     /**
      * Returns an iterator over the Entries in this MyHashMap in the order
-     * in which they appear in the table.
+     * in which they appear in the table. During an incremental resize the
+     * iterator reads the unmigrated buckets of the old table first and then
+     * the new table, without migrating anything.
      * @return an iterator over the Entries in this MyHashMap
      */
     public Iterator<Entry<K, V>> iterator() {
@@ -280,10 +590,18 @@ public class MyHashMap<K extends Comparable<K>, V> implements MyMap<K, V> {
     }
 
     private class MapItr implements Iterator<Entry<K, V>> {
+        private final Entry<K, V>[] newTable = table;
+        private Entry<K, V>[] buckets;
         private Entry<K, V> current;
         private int index;
 
         MapItr() {
+            if (oldTable != null) {
+                buckets = oldTable;
+                index = migrateIndex;
+            } else {
+                buckets = newTable;
+            }
             advanceToNextEntry();
         }
 
@@ -310,10 +628,17 @@ public class MyHashMap<K extends Comparable<K>, V> implements MyMap<K, V> {
         }
 
         private void advanceToNextEntry() {
-            while (index < table.length && table[index] == null) {
-                index++;
+            while (true) {
+                while (index < buckets.length && buckets[index] == null) {
+                    index++;
+                }
+                if (index < buckets.length || buckets == newTable) {
+                    break;
+                }
+                buckets = newTable;
+                index = 0;
             }
-            current = index < table.length ? table[index] : null;
+            current = index < buckets.length ? buckets[index] : null;
         }
     }
 
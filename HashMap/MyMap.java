@@ -1,3 +1,7 @@
+import java.util.Iterator;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
 /**
  * Interface for a collection that maps keys to values.
  * @author Brian S. Borowski
@@ -44,4 +48,58 @@ public interface MyMap<K, V> {
      *         mapping for key
      */
     V remove(K key);
+
+    /**
+     * Returns the value to which the specified key is mapped, or defaultValue
+     * if this map contains no mapping for the key.
+     * @param key          the key whose associated value is to be returned
+     * @param defaultValue the value to return if the key is not mapped
+     * @return the value to which the specified key is mapped, or defaultValue
+     *         if this map contains no mapping for the key
+     */
+    V getOrDefault(K key, V defaultValue);
+
+    /**
+     * If the specified key is not mapped, associates it with the given value.
+     * Otherwise, replaces the mapped value with the result of the remapping
+     * function applied to the old and the given value, or removes the mapping
+     * if that result is null. The key is located only once.
+     * @param key               the key with which the value is to be merged
+     * @param value             the value to merge with the existing value
+     * @param remappingFunction the function that combines the old and the
+     *                          given value
+     * @return the new value associated with key, or null if the mapping was
+     *         removed
+     */
+    V merge(K key, V value,
+            BiFunction<? super V, ? super V, ? extends V> remappingFunction);
+
+    /**
+     * Computes a new value for the specified key from the key and its current
+     * value (null if there is none). If the result is null, the mapping is
+     * removed (or not created). The key is located only once.
+     * @param key               the key whose value is to be computed
+     * @param remappingFunction the function that computes the new value
+     * @return the new value associated with key, or null if there is none
+     */
+    V compute(K key,
+              BiFunction<? super K, ? super V, ? extends V> remappingFunction);
+
+    /**
+     * If the specified key is not mapped to a value, computes its value with
+     * the mapping function and enters it into the map unless it is null. The
+     * key is located only once.
+     * @param key             the key whose value is to be computed
+     * @param mappingFunction the function that computes the value
+     * @return the current (existing or computed) value associated with key,
+     *         or null if the computed value is null
+     */
+    V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction);
+
+    /**
+     * Returns an iterator over the mappings in this map. Each implementation
+     * documents the order in which the mappings are returned.
+     * @return an iterator over the mappings in this map
+     */
+    Iterator<Entry<K, V>> iterator();
 }
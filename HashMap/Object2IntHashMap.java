@@ -0,0 +1,292 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Class for a hash map from object keys to primitive int values, intended
+ * for counting. Values are stored in an int[] alongside the keys, so
+ * incrementing a count with addTo() never boxes an Integer. Collisions are
+ * resolved with Robin Hood linear probing and removal uses backward-shift
+ * deletion, as in OpenAddressingHashMap.
+ * @author Amelie Sharples aes2367
+ * @version 1.0 October 18, 2026
+ */
+public class Object2IntHashMap<K> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final double MAX_LOAD_FACTOR = 0.75;
+    private Object[] keys;
+    private int[] values, hashes;
+    private int mask, threshold, numEntries;
+
+    /**
+     * Creates an empty map with the default capacity.
+     */
+    public Object2IntHashMap() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty map that can hold expectedSize mappings without
+     * growing.
+     * @param expectedSize the number of mappings the map is expected to hold
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    public Object2IntHashMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Illegal Size: " +
+                    expectedSize);
+        }
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * MAX_LOAD_FACTOR < expectedSize) {
+            capacity *= 2;
+        }
+        allocate(capacity);
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new int[capacity];
+        hashes = new int[capacity];
+        mask = capacity - 1;
+        threshold = (int)(capacity * MAX_LOAD_FACTOR);
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private int probeDistance(int index) {
+        return (index - (hashes[index] & mask)) & mask;
+    }
+
+    /**
+     * Returns the number of key-value mappings in this map.
+     * @return the number of key-value mappings in this map
+     */
+    public int size() {
+        return numEntries;
+    }
+
+    /**
+     * Returns true if this map contains no key-value mappings.
+     * @return true if this map contains no key-value mappings
+     */
+    public boolean isEmpty() {
+        return numEntries == 0;
+    }
+
+    /**
+     * Returns the slot holding the specified key. If the key is not in the
+     * map, returns ~slot, where slot is the position at which the key would
+     * be inserted.
+     * @param key  the key to look up
+     * @param hash the mixed hash of the key
+     * @return the slot holding the key, or a negative value if it is absent
+     */
+    private int probe(Object key, int hash) {
+        int index = hash & mask;
+        for (int dist = 0; ; dist++) {
+            Object k = keys[index];
+            if (k == null || probeDistance(index) < dist) {
+                return ~index;
+            }
+            if (hashes[index] == hash && k.equals(key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Returns true if this map contains a mapping for the specified key.
+     * @param key the key whose presence is to be tested
+     * @return true if this map contains a mapping for the key
+     */
+    public boolean containsKey(K key) {
+        return probe(key, hash(key)) >= 0;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or 0 if this
+     * map contains no mapping for the key.
+     * @param key the key whose associated value is to be returned
+     * @return the value to which the specified key is mapped, or 0
+     */
+    public int getInt(K key) {
+        int index = probe(key, hash(key));
+        return index < 0 ? 0 : values[index];
+    }
+
+    /**
+     * Associates the specified value with the specified key in this map.
+     * @param key   the key with which the specified value is to be associated
+     * @param value the value to be associated with the specified key
+     * @return the previous value associated with key, or 0 if there was no
+     *         mapping for key
+     */
+    public int put(K key, int value) {
+        int hash = hash(key);
+        int index = probe(key, hash);
+        if (index >= 0) {
+            int oldVal = values[index];
+            values[index] = value;
+            return oldVal;
+        }
+        add(~index, key, value, hash);
+        return 0;
+    }
+
+    /**
+     * Adds delta to the value associated with the specified key, treating a
+     * missing mapping as 0. The table is probed only once.
+     * @param key   the key whose value is to be incremented
+     * @param delta the amount to add
+     * @return the previous value associated with key, or 0 if there was no
+     *         mapping for key
+     */
+    public int addTo(K key, int delta) {
+        int hash = hash(key);
+        int index = probe(key, hash);
+        if (index >= 0) {
+            int oldVal = values[index];
+            values[index] = oldVal + delta;
+            return oldVal;
+        }
+        add(~index, key, delta, hash);
+        return 0;
+    }
+
+    /**
+     * Adds every count in the other map to this map, as if by calling
+     * addTo(key, value) for each of its mappings. Used to combine partial
+     * counts produced by different threads.
+     * @param other the map whose counts are to be added to this map
+     */
+    @SuppressWarnings("unchecked")
+    public void addAll(Object2IntHashMap<? extends K> other) {
+        for (int i = 0; i < other.keys.length; i++) {
+            if (other.keys[i] != null) {
+                addTo((K)other.keys[i], other.values[i]);
+            }
+        }
+    }
+
+    private void add(int index, Object key, int value, int hash) {
+        insert(index, key, value, hash);
+        if (++numEntries > threshold) {
+            rehash();
+        }
+    }
+
+    /**
+     * Places a mapping known to be absent from the table, starting at the
+     * given slot and displacing residents that are closer to home.
+     */
+    private void insert(int index, Object key, int value, int hash) {
+        int dist = (index - (hash & mask)) & mask;
+        while (keys[index] != null) {
+            int residentDist = probeDistance(index);
+            if (residentDist < dist) {
+                Object tmpKey = keys[index];
+                int tmpValue = values[index], tmpHash = hashes[index];
+                keys[index] = key;
+                values[index] = value;
+                hashes[index] = hash;
+                key = tmpKey;
+                value = tmpValue;
+                hash = tmpHash;
+                dist = residentDist;
+            }
+            index = (index + 1) & mask;
+            dist++;
+        }
+        keys[index] = key;
+        values[index] = value;
+        hashes[index] = hash;
+    }
+
+    private void rehash() {
+        Object[] oldKeys = keys;
+        int[] oldValues = values, oldHashes = hashes;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                insert(oldHashes[i] & mask, oldKeys[i], oldValues[i],
+                        oldHashes[i]);
+            }
+        }
+    }
+
+    /**
+     * Removes the mapping for a key from this map if it is present.
+     * @param key the key whose mapping is to be removed from the map
+     * @return the previous value associated with key, or 0 if there was no
+     *         mapping for key
+     */
+    public int removeInt(K key) {
+        int index = probe(key, hash(key));
+        if (index < 0) {
+            return 0;
+        }
+        int oldVal = values[index];
+        int next = (index + 1) & mask;
+        while (keys[next] != null && probeDistance(next) > 0) {
+            keys[index] = keys[next];
+            values[index] = values[next];
+            hashes[index] = hashes[next];
+            index = next;
+            next = (next + 1) & mask;
+        }
+        keys[index] = null;
+        values[index] = 0;
+        hashes[index] = 0;
+        numEntries--;
+        return oldVal;
+    }
+
+    /**
+     * Returns an iterator over the mappings in this map in the order in which
+     * they appear in the table. Each mapping is wrapped in a fresh Entry, so
+     * values are boxed only here, once per key, rather than on every update.
+     * @return an iterator over the mappings in this map
+     */
+    public Iterator<Entry<K, Integer>> iterator() {
+        return new MapItr();
+    }
+
+    private class MapItr implements Iterator<Entry<K, Integer>> {
+        private int index;
+
+        MapItr() {
+            advanceToNextEntry();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < keys.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<K, Integer> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Entry<K, Integer> e = new Entry<>((K)keys[index], values[index]);
+            index++;
+            advanceToNextEntry();
+            return e;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        private void advanceToNextEntry() {
+            while (index < keys.length && keys[index] == null) {
+                index++;
+            }
+        }
+    }
+}
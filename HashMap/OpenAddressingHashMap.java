@@ -0,0 +1,477 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Class for a hash map that uses open addressing with Robin Hood linear
+ * probing. Keys, values, and hashes are stored in parallel arrays, so no
+ * Entry node is allocated per mapping and a lookup scans consecutive slots
+ * instead of chasing pointers. Removal uses backward-shift deletion, so no
+ * tombstones are ever left in the table.
+ * @author Amelie Sharples aes2367
+ * @version 1.0 October 18, 2026
+ */
+public class OpenAddressingHashMap<K extends Comparable<K>, V>
+        implements MyMap<K, V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final double MAX_LOAD_FACTOR = 0.75;
+    private Object[] keys, values;
+    private int[] hashes;
+    private int mask, threshold, numEntries;
+
+    /**
+     * Creates an empty map with the default capacity.
+     */
+    public OpenAddressingHashMap() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        mask = capacity - 1;
+        threshold = (int)(capacity * MAX_LOAD_FACTOR);
+    }
+
+    /**
+     * Spreads the bits of the key's hash code so that keys differing only in
+     * their high bits do not all land in the same slot of the power-of-two
+     * table.
+     * @param key the key to hash
+     * @return the mixed hash of the key
+     */
+    private static int hash(Object key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns how far the mapping in the given slot sits from its home slot.
+     * @param index the index of an occupied slot
+     * @return the probe distance of the mapping in that slot
+     */
+    private int probeDistance(int index) {
+        return (index - (hashes[index] & mask)) & mask;
+    }
+
+    /**
+     * Returns the number of slots in this map.
+     * @return the number of slots in this map
+     */
+    public int getTableSize() {
+        return keys.length;
+    }
+
+    /**
+     * Returns the number of key-value mappings in this map.
+     * @return the number of key-value mappings in this map
+     */
+    @Override
+    public int size() {
+        return numEntries;
+    }
+
+    /**
+     * Returns true if this map contains no key-value mappings.
+     * @return true if this map contains no key-value mappings
+     */
+    @Override
+    public boolean isEmpty() {
+        return numEntries == 0;
+    }
+
+    /**
+     * Returns the slot holding the specified key. If the key is not in the
+     * map, returns ~slot, where slot is the position at which the key would
+     * be inserted. The scan stops as soon as it reaches a mapping that is
+     * closer to its home slot than the key would be, since Robin Hood
+     * insertion guarantees the key cannot appear past that point.
+     * @param key  the key to look up
+     * @param hash the mixed hash of the key
+     * @return the slot holding the key, or a negative value if it is absent
+     */
+    private int probe(Object key, int hash) {
+        int index = hash & mask;
+        for (int dist = 0; ; dist++) {
+            Object k = keys[index];
+            if (k == null || probeDistance(index) < dist) {
+                return ~index;
+            }
+            if (hashes[index] == hash && k.equals(key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or null if this
+     * map contains no mapping for the key.
+     * @param  key the key whose associated value is to be returned
+     * @return the value to which the specified key is mapped, or null if this
+     *         map contains no mapping for the key
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        int index = probe(key, hash(key));
+        return index < 0 ? null : (V)values[index];
+    }
+
+    /**
+     * Associates the specified value with the specified key in this map. If the
+     * map previously contained a mapping for the key, the old value is replaced
+     * by the specified value.
+     * @param key   the key with which the specified value is to be associated
+     * @param value the value to be associated with the specified key
+     * @return the previous value associated with key, or null if there was no
+     *         mapping for key
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        int hash = hash(key);
+        int index = probe(key, hash);
+        if (index >= 0) {
+            V oldVal = (V)values[index];
+            values[index] = value;
+            return oldVal;
+        }
+        add(~index, key, value, hash);
+        return null;
+    }
+
+    private void add(int index, Object key, Object value, int hash) {
+        insert(index, key, value, hash);
+        if (++numEntries > threshold) {
+            rehash();
+        }
+    }
+
+    /**
+     * Places a mapping known to be absent from the table, starting at the
+     * given slot. Whenever the mapping being carried is farther from home
+     * than the resident of a slot, the two swap places and the resident is
+     * carried forward instead.
+     * @param index the slot at which to start placing the mapping
+     * @param key   the key to place
+     * @param value the value to place
+     * @param hash  the mixed hash of the key
+     */
+    private void insert(int index, Object key, Object value, int hash) {
+        int dist = (index - (hash & mask)) & mask;
+        while (keys[index] != null) {
+            int residentDist = probeDistance(index);
+            if (residentDist < dist) {
+                Object tmpKey = keys[index], tmpValue = values[index];
+                int tmpHash = hashes[index];
+                keys[index] = key;
+                values[index] = value;
+                hashes[index] = hash;
+                key = tmpKey;
+                value = tmpValue;
+                hash = tmpHash;
+                dist = residentDist;
+            }
+            index = (index + 1) & mask;
+            dist++;
+        }
+        keys[index] = key;
+        values[index] = value;
+        hashes[index] = hash;
+    }
+
+    private void rehash() {
+        Object[] oldKeys = keys, oldValues = values;
+        int[] oldHashes = hashes;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                insert(oldHashes[i] & mask, oldKeys[i], oldValues[i],
+                        oldHashes[i]);
+            }
+        }
+    }
+
+    /**
+     * Removes the mapping for a key from this map if it is present. The
+     * mappings that follow it in the same run are shifted back one slot, so
+     * lookups never have to skip over deleted markers.
+     * @param key the key whose mapping is to be removed from the map
+     * @return the previous value associated with key, or null if there was no
+     *         mapping for key
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(K key) {
+        int index = probe(key, hash(key));
+        if (index < 0) {
+            return null;
+        }
+        V oldVal = (V)values[index];
+        removeAt(index);
+        return oldVal;
+    }
+
+    private void removeAt(int index) {
+        int next = (index + 1) & mask;
+        while (keys[next] != null && probeDistance(next) > 0) {
+            keys[index] = keys[next];
+            values[index] = values[next];
+            hashes[index] = hashes[next];
+            index = next;
+            next = (next + 1) & mask;
+        }
+        keys[index] = null;
+        values[index] = null;
+        hashes[index] = 0;
+        numEntries--;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or defaultValue
+     * if this map contains no mapping for the key.
+     * @param key          the key whose associated value is to be returned
+     * @param defaultValue the value to return if the key is not mapped
+     * @return the value to which the specified key is mapped, or defaultValue
+     *         if this map contains no mapping for the key
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(K key, V defaultValue) {
+        int index = probe(key, hash(key));
+        return index < 0 ? defaultValue : (V)values[index];
+    }
+
+    /**
+     * If the specified key is not mapped, associates it with the given value.
+     * Otherwise, replaces the mapped value with the result of the remapping
+     * function applied to the old and the given value, or removes the mapping
+     * if that result is null. The table is probed only once.
+     * @param key               the key with which the value is to be merged
+     * @param value             the value to merge with the existing value
+     * @param remappingFunction the function that combines the old and the
+     *                          given value
+     * @return the new value associated with key, or null if the mapping was
+     *         removed
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V merge(K key, V value,
+            BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        int hash = hash(key);
+        int index = probe(key, hash);
+        if (index < 0) {
+            add(~index, key, value, hash);
+            return value;
+        }
+        V oldVal = (V)values[index];
+        V newVal = oldVal == null ? value
+                : remappingFunction.apply(oldVal, value);
+        if (newVal == null) {
+            removeAt(index);
+        } else {
+            values[index] = newVal;
+        }
+        return newVal;
+    }
+
+    /**
+     * Computes a new value for the specified key from the key and its current
+     * value (null if there is none). If the result is null, the mapping is
+     * removed (or not created). The table is probed only once.
+     * @param key               the key whose value is to be computed
+     * @param remappingFunction the function that computes the new value
+     * @return the new value associated with key, or null if there is none
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V compute(K key,
+            BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        int hash = hash(key);
+        int index = probe(key, hash);
+        V newVal = remappingFunction.apply(key,
+                index < 0 ? null : (V)values[index]);
+        if (index < 0) {
+            if (newVal != null) {
+                add(~index, key, newVal, hash);
+            }
+        } else if (newVal == null) {
+            removeAt(index);
+        } else {
+            values[index] = newVal;
+        }
+        return newVal;
+    }
+
+    /**
+     * If the specified key is not mapped to a value, computes its value with
+     * the mapping function and enters it into the map unless it is null. The
+     * table is probed only once.
+     * @param key             the key whose value is to be computed
+     * @param mappingFunction the function that computes the value
+     * @return the current (existing or computed) value associated with key,
+     *         or null if the computed value is null
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(K key,
+                             Function<? super K, ? extends V> mappingFunction) {
+        int hash = hash(key);
+        int index = probe(key, hash);
+        if (index >= 0) {
+            if (values[index] == null) {
+                values[index] = mappingFunction.apply(key);
+            }
+            return (V)values[index];
+        }
+        V newVal = mappingFunction.apply(key);
+        if (newVal != null) {
+            add(~index, key, newVal, hash);
+        }
+        return newVal;
+    }
+
+    /**
+     * Returns the load factor of this map, defined as the number of
+     * entries / table size.
+     * @return the load factor of this map
+     */
+    public double getLoadFactor() {
+        return (double)numEntries / keys.length;
+    }
+
+    /**
+     * Returns the largest distance between a mapping and its home slot. This
+     * is the open-addressing counterpart of MyHashMap's max chain length.
+     * @return the maximum probe distance in this map
+     */
+    public int computeMaxProbeLength() {
+        int maxProbeLength = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null && probeDistance(i) > maxProbeLength) {
+                maxProbeLength = probeDistance(i);
+            }
+        }
+        return maxProbeLength;
+    }
+
+    /**
+     * Returns a string representation of this map for tables with up to and
+     * including 1000 entries.
+     * @return a string representation of this map
+     */
+    public String toString() {
+        if (numEntries > 1000) {
+            return "HashMap too large to represent as a string.";
+        }
+        if (numEntries == 0) {
+            return "HashMap is empty.";
+        }
+        int maxIndexWidth = String.valueOf(keys.length - 1).length();
+        StringBuilder builder = new StringBuilder();
+        String newLine = System.getProperty("line.separator");
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                int indexWidth = String.valueOf(i).length();
+                builder.append(" ".repeat(maxIndexWidth - indexWidth));
+                builder.append(i);
+                builder.append(": <");
+                builder.append(keys[i]);
+                builder.append(", ");
+                builder.append(values[i]);
+                builder.append(">");
+                builder.append(newLine);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns an iterator over the mappings in this map in the order in which
+     * they appear in the table. Each mapping is wrapped in a fresh Entry.
+     * @return an iterator over the mappings in this map
+     */
+    public Iterator<Entry<K, V>> iterator() {
+        return new MapItr();
+    }
+
+    private class MapItr implements Iterator<Entry<K, V>> {
+        private int index;
+
+        MapItr() {
+            advanceToNextEntry();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < keys.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Entry<K, V> e = new Entry<>((K)keys[index], (V)values[index]);
+            index++;
+            advanceToNextEntry();
+            return e;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        private void advanceToNextEntry() {
+            while (index < keys.length && keys[index] == null) {
+                index++;
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        OpenAddressingHashMap<String, Integer> map =
+                new OpenAddressingHashMap<>();
+        int upperLimit = 100;
+        int expectedSum = 0;
+        for (int i = 1; i <= upperLimit; i++) {
+            map.put(String.valueOf(i), i);
+            expectedSum += i;
+        }
+        System.out.println("Size             : " + map.size());
+        System.out.println("Table size       : " + map.getTableSize());
+        System.out.println("Load factor      : " + map.getLoadFactor());
+        System.out.println("Max probe length : " + map.computeMaxProbeLength());
+        System.out.println();
+        System.out.println("Expected sum: " + expectedSum);
+
+        int receivedSum = 0;
+        for (int i = 1; i <= upperLimit; i++) {
+            receivedSum += map.get(String.valueOf(i));
+        }
+        System.out.println("Received sum: " + receivedSum);
+
+        receivedSum = 0;
+        Iterator<Entry<String, Integer>> iter = map.iterator();
+        while (iter.hasNext()) {
+            receivedSum += iter.next().value;
+        }
+        System.out.println("Received sum: " + receivedSum);
+
+        receivedSum = 0;
+        for (int i = 1; i <= upperLimit; i += 2) {
+            receivedSum += map.remove(String.valueOf(i));
+        }
+        for (int i = 2; i <= upperLimit; i += 2) {
+            receivedSum += map.get(String.valueOf(i));
+        }
+        System.out.println("Received sum: " + receivedSum);
+        System.out.println("Size             : " + map.size());
+        System.out.println(map);
+    }
+}
@@ -0,0 +1,316 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Resizable-array implementation of the MyIntList interface. Elements are
+ * stored in an int[], so adding, reading and iterating never box.
+ * @author Amelie Sharples aes2367
+ * @version 1.0 October 18, 2026
+ */
+public class IntArrayList implements MyIntList {
+    /**
+     * Default initial capacity.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * The largest capacity the list will grow to on its own.
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * The size of the list (the number of elements it contains).
+     */
+    private int size;
+
+    /**
+     * The array buffer into which the elements of the list are stored.
+     */
+    private int[] elementData;
+
+    /**
+     * Constructs an empty list with the specified initial capacity.
+     * @param  initialCapacity  the initial capacity of the list
+     * @throws IllegalArgumentException if the specified initial capacity
+     *         is negative
+     */
+    public IntArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " +
+                    initialCapacity);
+        }
+        this.elementData = new int[initialCapacity];
+    }
+
+    /**
+     * Constructs an empty list with an initial capacity of ten.
+     */
+    public IntArrayList() {
+        this.elementData = new int[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     * @return the number of elements in this list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if this list contains no elements.
+     * @return true if this list contains no elements
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     * @param element  element to be appended to this list
+     * @return true
+     */
+    public boolean add(int element) {
+        if (size == elementData.length) {
+            grow(size + 1);
+        }
+        elementData[size++] = element;
+        return true;
+    }
+
+    /**
+     * Appends all of the elements in the specified array to the end of this
+     * list, in order. The backing array is grown at most once.
+     * @param elements  array containing elements to be added to this list
+     * @return true if this list changed as a result of the call
+     */
+    public boolean addAll(int[] elements) {
+        int numNew = elements.length;
+        if (numNew == 0) {
+            return false;
+        }
+        ensureCapacity(size + numNew);
+        System.arraycopy(elements, 0, elementData, size, numNew);
+        size += numNew;
+        return true;
+    }
+
+    /**
+     * Increases the capacity of this list, if necessary, so that it can hold
+     * at least minCapacity elements without growing again.
+     * @param minCapacity  the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elementData.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Trims the capacity of this list to its current size.
+     */
+    public void trimToSize() {
+        if (size < elementData.length) {
+            elementData = Arrays.copyOf(elementData, size);
+        }
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        int oldCapacity = elementData.length;
+        int newCapacity = oldCapacity <= (MAX_ARRAY_SIZE - 1) / 2
+                ? oldCapacity * 2 + 1 : MAX_ARRAY_SIZE;
+        if (newCapacity < minCapacity) {
+            newCapacity = minCapacity;
+        }
+        elementData = Arrays.copyOf(elementData, newCapacity);
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     * @param index  index of the element to return
+     * @return       the element at the specified position in this list
+     * @throws       IndexOutOfBoundsException - if the index is out of range
+     *               (index < 0 || index >= size())
+     */
+    public int getInt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", list size: " + size);
+        }
+        return elementData[index];
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the
+     * specified element.
+     * @param index    index of the element to replace
+     * @param element  element to be stored at the specified position
+     * @return  the element previously at the specified position
+     * @throws  IndexOutOfBoundsException - if the index is out of range
+     *          (index < 0 || index >= size())
+     */
+    public int set(int index, int element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", list size: " + size);
+        }
+        int oldValue = elementData[index];
+        elementData[index] = element;
+        return oldValue;
+    }
+
+    /**
+     * Removes all of the elements from this list. The capacity is kept.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns a string representation of the list, such as [1, 2, 3].
+     * @return a string representation of the list.
+     */
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+        StringBuilder s = new StringBuilder("[");
+        for (int i = 0; i < size - 1; i++) {
+            s.append(elementData[i]);
+            s.append(", ");
+        }
+        s.append(elementData[size - 1]);
+        s.append("]");
+        return s.toString();
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     * Shifts the element currently at that position (if any) and any subsequent
+     * elements to the right (adds one to their indices).
+     * @param index    index at which the specified element is to be inserted
+     * @param element  element to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         (index < 0 || index > size())
+     */
+    public void add(int index, int element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", list size: " + size);
+        }
+        if (size == elementData.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(elementData, index, elementData, index + 1,
+                size - index);
+        elementData[index] = element;
+        size++;
+    }
+
+    /**
+     * Removes the element at the specified position in this list.
+     * @param index  the index of the element to be removed
+     * @return the element that was removed from the list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         (index < 0 || index >= size())
+     */
+    public int removeInt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", list size: " + size);
+        }
+        int oldElement = elementData[index];
+        System.arraycopy(elementData, index + 1, elementData, index,
+                size - index - 1);
+        size--;
+        return oldElement;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in
+     * this list, or -1 if this list does not contain the element.
+     * @param element element to search for
+     * @return the index of the first occurrence of the specified element in
+     * this list, or -1 if this list does not contain the element
+     */
+    public int indexOf(int element) {
+        for (int i = 0; i < size; i++) {
+            if (elementData[i] == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an array of indexes of each occurrence of the specified element
+     * in this list, in ascending order. If the specified element is not found,
+     * a non-null empty array is returned.
+     * @param element element to search for
+     * @return an array of each occurrence of the specified element in this
+     * list
+     */
+    public int[] indexesOf(int element) {
+        int[] arr = new int[0];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (elementData[i] == element) {
+                if (count == arr.length) {
+                    arr = Arrays.copyOf(arr, count * 2 + 4);
+                }
+                arr[count++] = i;
+            }
+        }
+        return count == arr.length ? arr : Arrays.copyOf(arr, count);
+    }
+
+    /**
+     * Reverses the data in the list.
+     */
+    public void reverse() {
+        for (int i = 0, j = size - 1; i < j; i++, j--) {
+            int first = elementData[i];
+            elementData[i] = elementData[j];
+            elementData[j] = first;
+        }
+    }
+
+    /**
+     * Returns an array containing all of the elements in this list in proper
+     * sequence.
+     * @return a new array containing the elements of this list
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(elementData, size);
+    }
+
+    /**
+     * Returns an iterator over the elements in this list (in proper
+     * sequence).
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new ListItr();
+    }
+
+    private class ListItr implements PrimitiveIterator.OfInt {
+        private int current;
+
+        @Override
+        public boolean hasNext() {
+            return current < size;
+        }
+
+        @Override
+        public int nextInt() {
+            if (current >= size) {
+                throw new NoSuchElementException();
+            }
+            return elementData[current++];
+        }
+    }
+}
@@ -1,5 +1,3 @@
-import java.sql.Array;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 
@@ -212,7 +210,8 @@ public class IntCalculator {
         if (error != null) {
             return false;
         }
-        MyStack<Symbol> stack = new MyArrayList<>();
+        // Positions of the '(' symbols that have not been matched yet.
+        IntStack stack = new IntStack();
         StringBuilder numBuilder = new StringBuilder();
         boolean leading = true,
                 operandFound = false,
@@ -256,7 +255,7 @@ public class IntCalculator {
                 return false;
             }
             if (symbol == '(') {
-                stack.push(new Symbol(symbol, 0, i));
+                stack.push(i);
             } else if (symbol == ')') {
                 if (stack.isEmpty()) {
                     error = new Error(getErrorHeader(i)
@@ -278,10 +277,10 @@ public class IntCalculator {
             return false;
         }
         if (!stack.isEmpty()) {
-            Symbol stackTop = stack.pop();
-            error = new Error(getErrorHeader(stackTop.position)
+            int position = stack.pop();
+            error = new Error(getErrorHeader(position)
                     + "Unmatched '(' found at position "
-                    + (stackTop.position + 1) + ".", 0,stackTop.position);
+                    + (position + 1) + ".", 0, position);
             return false;
         }
         return true;
@@ -298,7 +297,7 @@ public class IntCalculator {
      * don't need any try-catch blocks in the body of this method.
      */
     public String infixToPostfix() throws StackException {
-        MyStack<Character> stack = new MyArrayList<>();
+        CharStack stack = new CharStack();
         StringBuilder postfixExpression = new StringBuilder();
         for(int i = 0; i < infixExpression.length(); i++) {
             char c = infixExpression.charAt(i);
@@ -366,7 +365,7 @@ public class IntCalculator {
      */
     public int evaluatePostfix()
             throws StackException, IllegalArgumentException {
-        MyStack<Integer> stack = new MyArrayList<>();
+        IntStack stack = new IntStack();
         char[] postfix = new char[postfixExpression.length()];
         for(int i = 0; i < postfixExpression.length(); i++) {
             postfix[i] = postfixExpression.charAt(i);
@@ -461,17 +460,6 @@ public class IntCalculator {
     }
 }
 
-class Symbol {
-    char character;
-    int lineNumber, position;
-
-    Symbol(char character, int lineNumber, int position) {
-        this.character = character;
-        this.lineNumber = lineNumber;
-        this.position = position;
-    }
-}
-
 class Error {
     int lineNumber, position;
     String message;
@@ -1,9 +1,6 @@
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * Class with two different methods to count inversions in an array of integers.
@@ -79,7 +76,7 @@ public class InversionCounter {
      */
     private static int[] readArrayFromStdin() throws IOException,
                                                      NumberFormatException {
-        List<Integer> intList = new LinkedList<>();
+        IntArrayList intList = new IntArrayList();
         BufferedReader reader = new BufferedReader(
                 new InputStreamReader(System.in));
         int value = 0, index = 0, ch;
@@ -105,13 +102,7 @@ public class InversionCounter {
             index++;
         }
 
-        int[] array = new int[intList.size()];
-        Iterator<Integer> iterator = intList.iterator();
-        index = 0;
-        while (iterator.hasNext()) {
-            array[index++] = iterator.next();
-        }
-        return array;
+        return intList.toArray();
     }
 
     public static void main(String[] args) {
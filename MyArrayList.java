@@ -1,4 +1,13 @@
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Resizable-array implementation of the MyList interface.
@@ -11,6 +20,13 @@ public class MyArrayList<E> implements MyList<E> {
      */
     private static final int DEFAULT_CAPACITY = 10;
 
+    /**
+     * The largest capacity the list will grow to on its own. Some VMs reserve
+     * header words in an array, so asking for more may fail even when memory
+     * is available.
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
     /**
      * The size of the ArrayList (the number of elements it contains).
      */
@@ -22,6 +38,13 @@ public class MyArrayList<E> implements MyList<E> {
      */
     Object[] elementData; // non-private to simplify nested class access
 
+    /**
+     * The number of times this list has been structurally modified, that is,
+     * had elements added, removed or reordered. Iterators compare it against
+     * the count they last saw so that they fail fast on concurrent changes.
+     */
+    private int modCount;
+
     /**
      * Constructs an empty list with the specified initial capacity.
      * @param  initialCapacity  the initial capacity of the list
@@ -65,17 +88,102 @@ public class MyArrayList<E> implements MyList<E> {
      * @return true
      */
     public boolean add(E element) {
-        if (size + 1 > elementData.length) {
-            Object[] newData = new Object[size * 2 + 1];
-            for (int i = 0; i < size; i++) {
-                newData[i] = elementData[i];
-            }
-            elementData = newData;
+        if (size == elementData.length) {
+            grow(size + 1);
         }
         elementData[size++] = element;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Appends all of the elements in the specified list to the end of this
+     * list, in the order they are returned by its iterator. The backing array
+     * is grown at most once.
+     * @param list  list containing elements to be added to this list
+     * @return true if this list changed as a result of the call
+     */
+    public boolean addAll(MyList<? extends E> list) {
+        int numNew = list.size();
+        if (numNew == 0) {
+            return false;
+        }
+        ensureCapacity(size + numNew);
+        if (list instanceof MyArrayList) {
+            // Read the source array after growing, in case list is this list.
+            System.arraycopy(((MyArrayList<?>)list).elementData, 0,
+                    elementData, size, numNew);
+        } else {
+            Iterator<? extends E> iter = list.iterator();
+            for (int i = size; i < size + numNew; i++) {
+                elementData[i] = iter.next();
+            }
+        }
+        size += numNew;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Appends all of the elements in the specified array to the end of this
+     * list, in order. The backing array is grown at most once.
+     * @param elements  array containing elements to be added to this list
+     * @return true if this list changed as a result of the call
+     */
+    public boolean addAll(E[] elements) {
+        int numNew = elements.length;
+        if (numNew == 0) {
+            return false;
+        }
+        ensureCapacity(size + numNew);
+        System.arraycopy(elements, 0, elementData, size, numNew);
+        size += numNew;
+        modCount++;
         return true;
     }
 
+    /**
+     * Increases the capacity of this list, if necessary, so that it can hold
+     * at least minCapacity elements without growing again.
+     * @param minCapacity  the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elementData.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Trims the capacity of this list to its current size, releasing the
+     * unused part of the backing array.
+     */
+    public void trimToSize() {
+        if (size < elementData.length) {
+            elementData = Arrays.copyOf(elementData, size);
+        }
+    }
+
+    /**
+     * Grows the backing array to hold at least minCapacity elements. The
+     * capacity roughly doubles each time so that appending n elements costs
+     * O(n) copies in total.
+     * @param minCapacity  the required capacity
+     * @throws OutOfMemoryError if minCapacity is negative, which means the
+     *         required capacity overflowed an int
+     */
+    private void grow(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        int oldCapacity = elementData.length;
+        int newCapacity = oldCapacity <= (MAX_ARRAY_SIZE - 1) / 2
+                ? oldCapacity * 2 + 1 : MAX_ARRAY_SIZE;
+        if (newCapacity < minCapacity) {
+            newCapacity = minCapacity;
+        }
+        elementData = Arrays.copyOf(elementData, newCapacity);
+    }
+
     /**
      * Returns the element at the specified position in this list.
      * @param index  index of the element to return
@@ -115,10 +223,9 @@ public class MyArrayList<E> implements MyList<E> {
      */
     public void clear() {
         // clear to let GC do its work
-        for (int i = 0; i < size; i++) {
-            elementData[i] = null;
-        }
+        Arrays.fill(elementData, 0, size, null);
         size = 0;
+        modCount++;
     }
 
     /**
@@ -132,14 +239,14 @@ public class MyArrayList<E> implements MyList<E> {
         if(size == 0) {
             return "[]";
         }
-        String s = "[";
+        StringBuilder s = new StringBuilder("[");
         for(int i = 0; i < size-1; i++) {
-            s += (String) elementData[i];
-            s += ", ";
+            s.append(elementData[i]);
+            s.append(", ");
         }
-        s += (String) elementData[size-1];
-        s += "]";
-        return s;
+        s.append(elementData[size-1]);
+        s.append("]");
+        return s.toString();
     }
 
 
@@ -160,21 +267,14 @@ public class MyArrayList<E> implements MyList<E> {
                     "Index: " + index + ", list size: " + size);
         }
 
-        if (size + 1 > elementData.length) {
-            Object[] newData = new Object[size * 2];
-            for (int i = 0; i < size; i++) {
-                newData[i] = elementData[i];
-            }
-            elementData = newData;
+        if (size == elementData.length) {
+            grow(size + 1);
         }
-        E old = (E) elementData[index];
+        System.arraycopy(elementData, index, elementData, index + 1,
+                size - index);
         elementData[index] = element;
-        for(int i = index; i <= size; i++) {
-            E nextOld = (E) elementData[i+1];
-            elementData[i+1] = old;
-            old = nextOld;
-        }
         size++;
+        modCount++;
     }
 
     /**
@@ -193,13 +293,70 @@ public class MyArrayList<E> implements MyList<E> {
         }
 
         E oldElement = (E) elementData[index];
-        for(int i = index; i < size-1; i++) {
-            elementData[i] = elementData[i+1];
-        }
-        size--;
+        System.arraycopy(elementData, index + 1, elementData, index,
+                size - index - 1);
+        // clear to let GC do its work
+        elementData[--size] = null;
+        modCount++;
         return oldElement;
     }
 
+    /**
+     * Removes from this list all of the elements whose index is between
+     * fromIndex, inclusive, and toIndex, exclusive. Shifts any succeeding
+     * elements to the left (reduces their index).
+     * @param fromIndex  index of the first element to be removed
+     * @param toIndex    index after the last element to be removed
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of
+     *         range (fromIndex < 0 || toIndex > size() || toIndex < fromIndex)
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || toIndex < fromIndex) {
+            throw new IndexOutOfBoundsException("From index: " + fromIndex
+                    + ", to index: " + toIndex + ", list size: " + size);
+        }
+        System.arraycopy(elementData, toIndex, elementData, fromIndex,
+                size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        // clear to let GC do its work
+        Arrays.fill(elementData, newSize, size, null);
+        size = newSize;
+        modCount++;
+    }
+
+    /**
+     * Removes all of the elements of this list that satisfy the given
+     * predicate, compacting the survivors in a single pass. If the predicate
+     * throws, the elements it has not yet been asked about are kept.
+     * @param filter  a predicate which returns true for elements to be
+     *                removed
+     * @return true if any elements were removed
+     */
+    public boolean removeIf(Predicate<? super E> filter) {
+        int oldSize = size, read = 0, write = 0;
+        try {
+            for (; read < size; read++) {
+                E element = (E)elementData[read];
+                if (!filter.test(element)) {
+                    elementData[write++] = element;
+                }
+            }
+        } finally {
+            if (read < size) {
+                System.arraycopy(elementData, read, elementData, write,
+                        size - read);
+                write += size - read;
+            }
+            // clear to let GC do its work
+            Arrays.fill(elementData, write, size, null);
+            if (write < size) {
+                size = write;
+                modCount++;
+            }
+        }
+        return write < oldSize;
+    }
+
     /**
      * Returns the index of the first occurrence of the specified element in
      * this list, or -1 if this list does not contain the element. More
@@ -212,7 +369,7 @@ public class MyArrayList<E> implements MyList<E> {
     public int indexOf(E element) {
         int i = 0;
         while (i < size) {
-            if (elementData[i].equals(element)) {
+            if (Objects.equals(elementData[i], element)) {
                 return i;
             }
             i++;
@@ -229,24 +386,29 @@ public class MyArrayList<E> implements MyList<E> {
      * list
      */
     public int[] indexesOf(E element) {
-        int i = 0;
-        int arrIndex = 0;
-        int arrSize = 0;
-        int[] arr = new int[arrSize];
-        while(i<size) {
-            if (elementData[i].equals(element)) {
-                arrSize++;
-                int newArr[] = new int[arrSize];
-                for (int j = 0; j < arr.length; j++) {
-                    newArr[j] = arr[j];
+        int[] arr = new int[0];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(elementData[i], element)) {
+                if (count == arr.length) {
+                    arr = Arrays.copyOf(arr, count * 2 + 4);
                 }
-                arr = newArr;
-                arr[arrIndex] = i;
-                arrIndex++;
+                arr[count++] = i;
             }
-            i++;
         }
-        return arr;
+        return count == arr.length ? arr : Arrays.copyOf(arr, count);
+    }
+
+    /**
+     * Returns an iterator over the indexes of each occurrence of the specified
+     * element in this list, in ascending order. Matches are found lazily as
+     * the iterator advances.
+     * @param element element to search for
+     * @return an iterator over the index of each occurrence of the specified
+     * element in this list
+     */
+    public PrimitiveIterator.OfInt indexIterator(E element) {
+        return new IndexItr(element);
     }
 
     /**
@@ -261,24 +423,53 @@ public class MyArrayList<E> implements MyList<E> {
             elementData[i] = elementData[(size-1)-i];
             elementData[(size-1)-i] = first;
         }
+        modCount++;
     }
 
     /**
      * Returns an iterator over the elements in this list (in proper
      * sequence).
      *
-     * The returned list iterator is fail-fast -- modification of the elements
-     * is not permitted during iteration.
+     * The returned list iterator is fail-fast -- if the list is structurally
+     * modified other than through the iterator's own methods, the iterator
+     * throws ConcurrentModificationException.
      */
     public Iterator<E> iterator() {
-        return new ListItr();
+        return new ListItr(0);
+    }
+
+    /**
+     * Returns a list iterator over the elements in this list (in proper
+     * sequence), starting at the beginning of the list.
+     * @return a fail-fast list iterator over the elements in this list
+     */
+    public ListIterator<E> listIterator() {
+        return new ListItr(0);
+    }
+
+    /**
+     * Returns a list iterator over the elements in this list (in proper
+     * sequence), starting at the specified position in the list.
+     * @param index  index of the first element to be returned by next()
+     * @return a fail-fast list iterator over the elements in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         (index < 0 || index > size())
+     */
+    public ListIterator<E> listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", list size: " + size);
+        }
+        return new ListItr(index);
     }
 
-    private class ListItr implements Iterator<E> {
+    private class ListItr implements ListIterator<E> {
         private int current;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
 
-        ListItr() {
-            current = 0;
+        ListItr(int index) {
+            current = index;
         }
 
         @Override
@@ -288,14 +479,154 @@ public class MyArrayList<E> implements MyList<E> {
 
         @Override
         public E next() {
-            return (E)elementData[current++];
+            checkForComodification();
+            if (current >= size) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = current++;
+            return (E)elementData[lastReturned];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return current > 0;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+            if (current <= 0) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = --current;
+            return (E)elementData[lastReturned];
+        }
+
+        @Override
+        public int nextIndex() {
+            return current;
+        }
+
+        @Override
+        public int previousIndex() {
+            return current - 1;
         }
 
         @Override
         public void remove() {
-            throw new UnsupportedOperationException();
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            MyArrayList.this.remove(lastReturned);
+            current = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
         }
 
+        @Override
+        public void set(E element) {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            elementData[lastReturned] = element;
+        }
+
+        @Override
+        public void add(E element) {
+            checkForComodification();
+            MyArrayList.this.add(current++, element);
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private class IndexItr implements PrimitiveIterator.OfInt {
+        private final E element;
+        private final int expectedModCount = modCount;
+        private int next;
+
+        IndexItr(E element) {
+            this.element = element;
+            next = find(0);
+        }
+
+        private int find(int from) {
+            while (from < size && !Objects.equals(elementData[from], element)) {
+                from++;
+            }
+            return from;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public int nextInt() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            int index = next;
+            next = find(index + 1);
+            return index;
+        }
+    }
+
+    /**
+     * Checks that remove(int), removeRange and removeIf clear the slots they
+     * vacate, so the removed elements can be garbage-collected. Each check
+     * removes elements from the end of a list, where no later element is
+     * shifted over them, keeps only a WeakReference to one of them, and asks
+     * for a collection until the reference is cleared.
+     * @param args unused
+     */
+    public static void main(String[] args) {
+        int failures = 0;
+        failures += checkCollectable("remove(int)",
+                list -> {
+                    list.remove(list.size() - 1);
+                    list.remove(list.size() - 1);
+                });
+        failures += checkCollectable("removeRange",
+                list -> list.removeRange(list.size() - 2, list.size()));
+        failures += checkCollectable("removeIf",
+                list -> list.removeIf(s -> s.startsWith("removed")));
+        if (failures != 0) {
+            System.exit(1);
+        }
+    }
+
+    private static int checkCollectable(String name,
+            Consumer<MyArrayList<String>> removal) {
+        MyArrayList<String> list = new MyArrayList<>();
+        list.add("kept");
+        list.add("kept");
+        // new Strings, so nothing else keeps them reachable
+        list.add(new StringBuilder("removed").append(2).toString());
+        list.add(new StringBuilder("removed").append(3).toString());
+        WeakReference<String> removed = new WeakReference<>(list.get(3));
+        removal.accept(list);
+        for (int i = 0; i < 10 && removed.get() != null; i++) {
+            System.gc();
+        }
+        boolean collected = removed.get() == null;
+        boolean intact = list.size() == 2 && list.get(0).equals("kept")
+                && list.get(1).equals("kept");
+        System.out.printf("%-12s removed element collected: %s, list: %s%n",
+                name, collected, list);
+        return collected && intact ? 0 : 1;
     }
 }
 
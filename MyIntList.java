@@ -0,0 +1,118 @@
+import java.util.PrimitiveIterator;
+
+/**
+ * Interface for an ordered collection of int values. It mirrors MyList, but
+ * stores and returns primitive ints so numeric code does not box every
+ * element.
+ * @author Amelie Sharples aes2367
+ * @version 1.0 October 18, 2026
+ */
+public interface MyIntList {
+    /**
+     * Returns the number of elements in this list.
+     * @return the number of elements in this list
+     */
+    int size();
+
+    /**
+     * Returns true if this list contains no elements.
+     * @return true if this list contains no elements
+     */
+    boolean isEmpty();
+
+    /**
+     * Appends the specified element to the end of this list.
+     * @param element  element to be appended to this list
+     * @return true
+     */
+    boolean add(int element);
+
+    /**
+     * Returns the element at the specified position in this list.
+     * @param index  index of the element to return
+     * @return       the element at the specified position in this list
+     * @throws       IndexOutOfBoundsException - if the index is out of range
+     *               (index < 0 || index >= size())
+     */
+    int getInt(int index);
+
+    /**
+     * Replaces the element at the specified position in this list with the
+     * specified element.
+     * @param index    index of the element to replace
+     * @param element  element to be stored at the specified position
+     * @return  the element previously at the specified position
+     * @throws  IndexOutOfBoundsException - if the index is out of range
+     *          (index < 0 || index >= size())
+     */
+    int set(int index, int element);
+
+    /**
+     * Removes all of the elements from this list.
+     */
+    void clear();
+
+    /**
+     * Returns an iterator over the elements in this list in proper sequence.
+     * @return an iterator over the elements in this list in proper sequence
+     */
+    PrimitiveIterator.OfInt iterator();
+
+    /**
+     * Returns a string representation of the list, such as [1, 2, 3].
+     * @return a string representation of the list.
+     */
+    @Override
+    String toString();
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     * Shifts the element currently at that position (if any) and any subsequent
+     * elements to the right (adds one to their indices).
+     * @param index    index at which the specified element is to be inserted
+     * @param element  element to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         (index < 0 || index > size())
+     */
+    void add(int index, int element);
+
+    /**
+     * Removes the element at the specified position in this list.
+     * @param index  the index of the element to be removed
+     * @return the element that was removed from the list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         (index < 0 || index >= size())
+     */
+    int removeInt(int index);
+
+    /**
+     * Returns the index of the first occurrence of the specified element in
+     * this list, or -1 if this list does not contain the element.
+     * @param element element to search for
+     * @return the index of the first occurrence of the specified element in
+     * this list, or -1 if this list does not contain the element
+     */
+    int indexOf(int element);
+
+    /**
+     * Returns an array of indexes of each occurrence of the specified element
+     * in this list, in ascending order. If the specified element is not found,
+     * a non-null empty array is returned.
+     * @param element element to search for
+     * @return an array of each occurrence of the specified element in this
+     * list
+     */
+    int[] indexesOf(int element);
+
+    /**
+     * Reverses the data in the list.
+     */
+    void reverse();
+
+    /**
+     * Returns an array containing all of the elements in this list in proper
+     * sequence.
+     * @return a new array containing the elements of this list
+     */
+    int[] toArray();
+}
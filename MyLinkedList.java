@@ -1,7 +1,13 @@
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
 
 /**
- * Linked list implementation of the MyList interface.
+ * Doubly linked list implementation of the MyList interface.
  * @author Amelie Sharples aes2367
  * @version 1.0 October 2, 2022
  */
@@ -9,6 +15,22 @@ public class MyLinkedList<E> implements MyList<E> {
     private Node head, tail;
     private int size;
 
+    /**
+     * The node most recently reached by index, and its index. Index-based
+     * methods walk from whichever of head, tail and this cursor is closest,
+     * so a loop over consecutive indexes in either direction costs O(1) per
+     * call. cursor is null when no position is cached.
+     */
+    private Node cursor;
+    private int cursorIndex;
+
+    /**
+     * The number of times this list has been structurally modified, that is,
+     * had elements added, removed or reordered. Iterators compare it against
+     * the count they last saw so that they fail fast on concurrent changes.
+     */
+    private int modCount;
+
     /**
      * Constructs an empty list.
      */
@@ -50,8 +72,7 @@ public class MyLinkedList<E> implements MyList<E> {
             throw new IndexOutOfBoundsException(
                     "Index: " + index + ", list size: " + size);
         }
-        Node p = head;
-        for (int i = 0; i < index; i++, p = p.next) ;
+        Node p = node(index);
         E oldElement = p.element;
         p.element = element;
         return oldElement;
@@ -70,9 +91,32 @@ public class MyLinkedList<E> implements MyList<E> {
             throw new IndexOutOfBoundsException(
                     "Index: " + index + ", list size: " + size);
         }
-        Node p = head;
-        for (int i = 0; i < index; i++, p = p.next) ;
-        return p.element;
+        return node(index).element;
+    }
+
+    /**
+     * Returns the node at the specified position, which must be in range,
+     * walking from the closest of head, tail and the cursor, and moves the
+     * cursor there.
+     */
+    private Node node(int index) {
+        int fromTail = size - 1 - index;
+        Node p;
+        if (cursor != null
+                && Math.abs(index - cursorIndex) < Math.min(index, fromTail)) {
+            p = cursor;
+            for (int i = cursorIndex; i < index; i++, p = p.next) ;
+            for (int i = cursorIndex; i > index; i--, p = p.prev) ;
+        } else if (index <= fromTail) {
+            p = head;
+            for (int i = 0; i < index; i++, p = p.next) ;
+        } else {
+            p = tail;
+            for (int i = size - 1; i > index; i--, p = p.prev) ;
+        }
+        cursor = p;
+        cursorIndex = index;
+        return p;
     }
 
     /**
@@ -86,19 +130,62 @@ public class MyLinkedList<E> implements MyList<E> {
         if (head == null) {
             head = tail = n;
         } else {
+            n.prev = tail;
             tail.next = n;
             tail = n;
         }
         size++;
+        modCount++;
         return true;
     }
 
+    /**
+     * Links a new node holding element in front of successor. The cursor is
+     * dropped, since the indexes after the new node all shift.
+     */
+    private Node linkBefore(E element, Node successor) {
+        Node n = new Node(element);
+        n.next = successor;
+        n.prev = successor.prev;
+        if (successor.prev == null) {
+            head = n;
+        } else {
+            successor.prev.next = n;
+        }
+        successor.prev = n;
+        size++;
+        modCount++;
+        cursor = null;
+        return n;
+    }
+
+    /**
+     * Unlinks node p from the list. The cursor is dropped, since it may be p
+     * and the indexes after p all shift.
+     */
+    private void unlink(Node p) {
+        if (p.prev == null) {
+            head = p.next;
+        } else {
+            p.prev.next = p.next;
+        }
+        if (p.next == null) {
+            tail = p.prev;
+        } else {
+            p.next.prev = p.prev;
+        }
+        size--;
+        modCount++;
+        cursor = null;
+    }
+
     /**
      * Removes all of the elements from this list.
      */
     public void clear() {
-        head = tail = null;
+        head = tail = cursor = null;
         size = 0;
+        modCount++;
     }
 
     /**
@@ -117,14 +204,14 @@ public class MyLinkedList<E> implements MyList<E> {
         //if (size == 1) {
         //    return "[" + p.element + "]";
         //}
-        String s = "[";
+        StringBuilder s = new StringBuilder("[");
         for (int i = 0; i < size - 1; i++, p = p.next) {
-            s += (String) p.element;
-            s += ", ";
+            s.append(p.element);
+            s.append(", ");
         }
-        s += (String) p.element;
-        s += "]";
-        return s;
+        s.append(p.element);
+        s.append("]");
+        return s.toString();
     }
 
     /**
@@ -144,17 +231,12 @@ public class MyLinkedList<E> implements MyList<E> {
             throw new IndexOutOfBoundsException(
                     "Index: " + index + ", list size: " + size);
         }
-        Node p = head;
-        Node n = new Node(element);
-        if (index == 0) {
-            n.next = head;
-            head = n;
-        } else {
-            for (int i = 0; i < index - 1; i++, p = p.next) ;
-            n.next = p.next;
-            p.next = n;
+        if (index == size) {
+            add(element);
+            return;
         }
-        size++;
+        cursor = linkBefore(element, node(index));
+        cursorIndex = index;
     }
 
     /**
@@ -172,18 +254,16 @@ public class MyLinkedList<E> implements MyList<E> {
             throw new IndexOutOfBoundsException(
                     "Index: " + index + ", list size: " + size);
         }
-        Node p = head;
-        E oldEl;
-        if(index == 0) {
-            oldEl = head.element;
-            head = head.next;
+        Node p = node(index);
+        unlink(p);
+        // Keep the cursor on a live node: the successor now has this index.
+        if (p.next != null) {
+            cursor = p.next;
         } else {
-            for (int i = 0; i < index - 1; i++, p = p.next);
-            oldEl = p.next.element;
-            p.next = p.next.next;
+            cursor = p.prev;
+            cursorIndex = index - 1;
         }
-        size--;
-        return oldEl;
+        return p.element;
     }
 
     /**
@@ -202,7 +282,7 @@ public class MyLinkedList<E> implements MyList<E> {
             return -1;
         }
         for (int i = 0; i < size; i++, p = p.next) {
-            if (p.element.equals(element)) {
+            if (Objects.equals(p.element, element)) {
                 return i;
             }
         }
@@ -219,29 +299,31 @@ public class MyLinkedList<E> implements MyList<E> {
      * list
      */
     public int[] indexesOf(E element) {
-        int i = 0;
-        int arrIndex = 0;
-        int arrSize = 0;
-        int[] arr = new int[arrSize];
+        int[] arr = new int[0];
+        int count = 0;
         Node p = head;
-        if (size == 0) {
-            return arr;
-        }
-        while (i < size) {
-            if (p.element.equals(element)) {
-                arrSize++;
-                int newArr[] = new int[arrSize];
-                for (int k = 0; k < arr.length; k++) {
-                    newArr[k] = arr[k];
+        for (int i = 0; i < size; i++, p = p.next) {
+            if (Objects.equals(p.element, element)) {
+                if (count == arr.length) {
+                    arr = Arrays.copyOf(arr, count * 2 + 4);
                 }
-                arr = newArr;
-                arr[arrIndex] = i;
-                arrIndex++;
+                arr[count++] = i;
             }
-            p = p.next;
-            i++;
         }
-        return arr;
+        return count == arr.length ? arr : Arrays.copyOf(arr, count);
+    }
+
+    /**
+     * Returns an iterator over the indexes of each occurrence of the specified
+     * element in this list, in ascending order. Matches are found lazily as
+     * the iterator advances.
+     *
+     * @param element element to search for
+     * @return an iterator over the index of each occurrence of the specified
+     * element in this list
+     */
+    public PrimitiveIterator.OfInt indexIterator(E element) {
+        return new IndexItr(element);
     }
 
         /**
@@ -251,49 +333,203 @@ public class MyLinkedList<E> implements MyList<E> {
          * reversed. Both implementations must run in Theta(n).
          */
         public void reverse () {
-            Node k = null;
-            tail = head;
-            while (head != null) {
-                Node next = head.next;
-                head.next = k;
-                k = head;
-                head = next;
+            Node p = head;
+            while (p != null) {
+                Node next = p.next;
+                p.next = p.prev;
+                p.prev = next;
+                p = next;
             }
-            head = k;
+            Node oldHead = head;
+            head = tail;
+            tail = oldHead;
+            cursorIndex = size - 1 - cursorIndex;
+            modCount++;
         }
 
-
+        /**
+         * Returns an iterator over the elements in this list (in proper
+         * sequence). The iterator is fail-fast -- if the list is structurally
+         * modified other than through the iterator's own methods, the iterator
+         * throws ConcurrentModificationException.
+         *
+         * @return an iterator over the elements in this list
+         */
         public Iterator<E> iterator () {
-            return new ListItr();
+            return new ListItr(0);
         }
 
-        private class ListItr implements Iterator<E> {
-            private Node current;
+        /**
+         * Returns a list iterator over the elements in this list (in proper
+         * sequence), starting at the beginning of the list. Adding, removing
+         * and replacing elements through it takes O(1) time per call.
+         *
+         * @return a fail-fast list iterator over the elements in this list
+         */
+        public ListIterator<E> listIterator () {
+            return new ListItr(0);
+        }
 
-            ListItr() {
-                current = head;
+        /**
+         * Returns a list iterator over the elements in this list (in proper
+         * sequence), starting at the specified position in the list.
+         *
+         * @param index index of the first element to be returned by next()
+         * @return a fail-fast list iterator over the elements in this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         *                                   (index < 0 || index > size())
+         */
+        public ListIterator<E> listIterator (int index) {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException(
+                        "Index: " + index + ", list size: " + size);
+            }
+            return new ListItr(index);
+        }
+
+        private class ListItr implements ListIterator<E> {
+            private Node next, lastReturned;
+            private int nextIndex;
+            private int expectedModCount = modCount;
+
+            ListItr(int index) {
+                next = index == size ? null : node(index);
+                nextIndex = index;
             }
 
             @Override
             public boolean hasNext() {
-                return current != null;
+                return nextIndex < size;
             }
 
             @Override
             public E next() {
-                E element = current.element;
-                current = current.next;
-                return element;
+                checkForComodification();
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                lastReturned = next;
+                next = next.next;
+                nextIndex++;
+                return lastReturned.element;
+            }
+
+            @Override
+            public boolean hasPrevious() {
+                return nextIndex > 0;
+            }
+
+            @Override
+            public E previous() {
+                checkForComodification();
+                if (!hasPrevious()) {
+                    throw new NoSuchElementException();
+                }
+                lastReturned = next = next == null ? tail : next.prev;
+                nextIndex--;
+                return lastReturned.element;
+            }
+
+            @Override
+            public int nextIndex() {
+                return nextIndex;
+            }
+
+            @Override
+            public int previousIndex() {
+                return nextIndex - 1;
             }
 
             @Override
             public void remove() {
-                throw new UnsupportedOperationException();
+                if (lastReturned == null) {
+                    throw new IllegalStateException();
+                }
+                checkForComodification();
+                Node lastNext = lastReturned.next;
+                unlink(lastReturned);
+                if (next == lastReturned) {
+                    // The last call was previous().
+                    next = lastNext;
+                } else {
+                    nextIndex--;
+                }
+                lastReturned = null;
+                expectedModCount = modCount;
+            }
+
+            @Override
+            public void set(E element) {
+                if (lastReturned == null) {
+                    throw new IllegalStateException();
+                }
+                checkForComodification();
+                lastReturned.element = element;
+            }
+
+            @Override
+            public void add(E element) {
+                checkForComodification();
+                if (next == null) {
+                    MyLinkedList.this.add(element);
+                } else {
+                    linkBefore(element, next);
+                }
+                nextIndex++;
+                lastReturned = null;
+                expectedModCount = modCount;
+            }
+
+            private void checkForComodification() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        }
+
+        private class IndexItr implements PrimitiveIterator.OfInt {
+            private final E element;
+            private final int expectedModCount = modCount;
+            private Node current;
+            private int index;
+
+            IndexItr(E element) {
+                this.element = element;
+                current = head;
+                advance();
+            }
+
+            private void advance() {
+                while (current != null
+                        && !Objects.equals(current.element, element)) {
+                    current = current.next;
+                    index++;
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public int nextInt() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (current == null) {
+                    throw new NoSuchElementException();
+                }
+                int match = index;
+                current = current.next;
+                index++;
+                advance();
+                return match;
             }
         }
 
         private class Node {
-            Node next;
+            Node next, prev;
             E element;
 
             public Node(E element) {
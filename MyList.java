@@ -1,4 +1,6 @@
 import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.PrimitiveIterator;
 
 /**
  * Interface for an ordered collection (also known as a sequence).
@@ -56,6 +58,26 @@ public interface MyList<E> {
      */
     Iterator<E> iterator();
 
+    /**
+     * Returns a list iterator over the elements in this list in proper
+     * sequence, starting at the beginning of the list. The iterator supports
+     * add, set and remove, and is fail-fast: if the list is structurally
+     * modified other than through the iterator itself, the iterator throws
+     * ConcurrentModificationException.
+     * @return a list iterator over the elements in this list
+     */
+    ListIterator<E> listIterator();
+
+    /**
+     * Returns a list iterator over the elements in this list in proper
+     * sequence, starting at the specified position in the list.
+     * @param index  index of the first element to be returned by next()
+     * @return a list iterator over the elements in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         (index < 0 || index > size())
+     */
+    ListIterator<E> listIterator(int index);
+
     /***************************************************************************
      * Signatures below this line are for homework. Implement the methods in
      * both MyArrayList and MyLinkedList.
@@ -115,6 +137,18 @@ public interface MyList<E> {
      */
     int[] indexesOf(E element);
 
+    /**
+     * Returns an iterator over the indexes of each occurrence of the specified
+     * element in this list, in ascending order. Matches are found lazily as
+     * the iterator advances, so a caller can stop early or process the matches
+     * of a very large list without building the whole array that indexesOf
+     * returns.
+     * @param element element to search for
+     * @return an iterator over the index of each occurrence of the specified
+     * element in this list
+     */
+    PrimitiveIterator.OfInt indexIterator(E element);
+
     /**
      * Reverses the data in the list.
      * For MyArrayList, the data inside the underlying is moved. For
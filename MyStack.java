@@ -1,5 +1,3 @@
-import java.io.Serial;
-
 /**
  * @author Amelie Sharples
  * @version 1.0 October 12, 2022
@@ -50,16 +48,3 @@ public interface MyStack<E> {
      */
     E peek() throws StackException;
 }
-
-class StackException extends Exception {
-    @Serial
-    private static final long serialVersionUID = 1L;
-
-    public StackException(final String msg) {
-        super(msg);
-    }
-
-    public StackException(final String msg, final Throwable t) {
-        super(msg, t);
-    }
-}
@@ -0,0 +1,20 @@
+import java.io.Serial;
+
+/**
+ * Checked exception thrown by the stacks when popping from or peeking at an
+ * empty stack.
+ * @author Amelie Sharples
+ * @version 1.0 October 12, 2022
+ */
+class StackException extends Exception {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public StackException(final String msg) {
+        super(msg);
+    }
+
+    public StackException(final String msg, final Throwable t) {
+        super(msg, t);
+    }
+}
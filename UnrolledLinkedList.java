@@ -0,0 +1,758 @@
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+/**
+ * Unrolled linked list implementation of the MyList interface. The list is a
+ * doubly linked list of chunks, each holding up to CHUNK_CAPACITY elements in
+ * an array. Compared to MyLinkedList it allocates one node per chunk rather
+ * than per element, keeps neighbouring elements next to each other in
+ * memory, and skips a whole chunk at a time when walking to an index.
+ * Inserting or removing in the middle shifts at most one chunk's array.
+ * @author Amelie Sharples aes2367
+ * @version 1.0 October 18, 2026
+ */
+public class UnrolledLinkedList<E> implements MyList<E> {
+    /**
+     * The number of elements a chunk can hold. A full chunk's array fits in
+     * a few cache lines, so shifting inside it is cheap.
+     */
+    private static final int CHUNK_CAPACITY = 64;
+
+    private Chunk head, tail;
+    private int size;
+
+    /**
+     * The chunk most recently reached by index, and the index of its first
+     * element. Index-based methods walk from whichever of head, tail and this
+     * cursor is closest. cursor is null when no position is cached.
+     */
+    private Chunk cursor;
+    private int cursorStart;
+
+    /**
+     * The number of times this list has been structurally modified. Iterators
+     * compare it against the count they last saw so that they fail fast on
+     * concurrent changes.
+     */
+    private int modCount;
+
+    /**
+     * Constructs an empty list.
+     */
+    public UnrolledLinkedList() { }
+
+    /**
+     * Returns the number of elements in this list.
+     * @return the number of elements in this list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if this list contains no elements.
+     * @return true if this list contains no elements
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     * @param element  element to be appended to this list
+     * @return true
+     */
+    public boolean add(E element) {
+        if (tail == null || tail.count == CHUNK_CAPACITY) {
+            linkAfter(tail, new Chunk());
+        }
+        tail.elements[tail.count++] = element;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     * @param index  index of the element to return
+     * @return       the element at the specified position in this list
+     * @throws       IndexOutOfBoundsException - if the index is out of range
+     *               (index < 0 || index >= size())
+     */
+    public E get(int index) {
+        checkIndex(index);
+        Chunk c = chunkFor(index);
+        return elementAt(c, index - cursorStart);
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the
+     * specified element.
+     * @param index    index of the element to replace
+     * @param element  element to be stored at the specified position
+     * @return  the element previously at the specified position
+     * @throws  IndexOutOfBoundsException - if the index is out of range
+     *          (index < 0 || index >= size())
+     */
+    public E set(int index, E element) {
+        checkIndex(index);
+        Chunk c = chunkFor(index);
+        int offset = index - cursorStart;
+        E oldElement = elementAt(c, offset);
+        c.elements[offset] = element;
+        return oldElement;
+    }
+
+    /**
+     * Removes all of the elements from this list.
+     */
+    public void clear() {
+        head = tail = cursor = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a string representation of the list. The string will begin with
+     * a '[' and end with a ']'. Inside the square brackets will be a comma-
+     * separated list of values, such as [Brian, Susan, Jamie].
+     * @return a string representation of the list.
+     */
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder("[");
+        String separator = "";
+        for (Chunk c = head; c != null; c = c.next) {
+            for (int i = 0; i < c.count; i++) {
+                s.append(separator);
+                s.append(c.elements[i]);
+                separator = ", ";
+            }
+        }
+        s.append("]");
+        return s.toString();
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     * Shifts the element currently at that position (if any) and any subsequent
+     * elements to the right (adds one to their indices).
+     * @param index    index at which the specified element is to be inserted
+     * @param element  element to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         (index < 0 || index > size())
+     */
+    public void add(int index, E element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", list size: " + size);
+        }
+        if (index == size) {
+            add(element);
+            return;
+        }
+        Chunk c = chunkFor(index);
+        int offset = index - cursorStart;
+        if (c.count == CHUNK_CAPACITY) {
+            // Split the full chunk in half and insert into the half that
+            // now holds the index.
+            int half = CHUNK_CAPACITY / 2;
+            Chunk upper = new Chunk();
+            System.arraycopy(c.elements, half, upper.elements, 0,
+                    CHUNK_CAPACITY - half);
+            Arrays.fill(c.elements, half, CHUNK_CAPACITY, null);
+            upper.count = CHUNK_CAPACITY - half;
+            c.count = half;
+            linkAfter(c, upper);
+            if (offset > half) {
+                cursorStart += half;
+                c = upper;
+                offset -= half;
+            }
+        }
+        System.arraycopy(c.elements, offset, c.elements, offset + 1,
+                c.count - offset);
+        c.elements[offset] = element;
+        c.count++;
+        size++;
+        modCount++;
+        cursor = c;
+    }
+
+    /**
+     * Removes the element at the specified position in this list.
+     * @param index  the index of the element to be removed
+     * @return the element that was removed from the list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         (index < 0 || index >= size())
+     */
+    public E remove(int index) {
+        checkIndex(index);
+        Chunk c = chunkFor(index);
+        int offset = index - cursorStart;
+        E oldElement = elementAt(c, offset);
+        System.arraycopy(c.elements, offset + 1, c.elements, offset,
+                c.count - offset - 1);
+        c.elements[--c.count] = null;
+        size--;
+        modCount++;
+        if (c.count == 0) {
+            // The next chunk now starts where this one did.
+            unlink(c);
+            cursor = c.next;
+        } else if (c.next != null
+                && c.count + c.next.count <= CHUNK_CAPACITY / 2) {
+            // Merge underfull neighbours so chunks stay at least a quarter
+            // full on average.
+            Chunk next = c.next;
+            System.arraycopy(next.elements, 0, c.elements, c.count,
+                    next.count);
+            c.count += next.count;
+            unlink(next);
+            cursor = c;
+        } else {
+            cursor = c;
+        }
+        return oldElement;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in
+     * this list, or -1 if this list does not contain the element. More
+     * formally, returns the lowest index i such that Objects.equals(o, get(i)),
+     * or -1 if there is no such index.
+     * @param element element to search for
+     * @return the index of the first occurrence of the specified element in
+     * this list, or -1 if this list does not contain the element
+     */
+    public int indexOf(E element) {
+        int start = 0;
+        for (Chunk c = head; c != null; start += c.count, c = c.next) {
+            for (int i = 0; i < c.count; i++) {
+                if (Objects.equals(c.elements[i], element)) {
+                    return start + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an array of indexes of each occurrence of the specified element
+     * in this list, in ascending order. If the specified element is not found,
+     * a non-null empty array (not null) is returned.
+     * @param element element to search for
+     * @return an array of each occurrence of the specified element in this
+     * list
+     */
+    public int[] indexesOf(E element) {
+        int[] arr = new int[0];
+        int count = 0;
+        PrimitiveIterator.OfInt iter = indexIterator(element);
+        while (iter.hasNext()) {
+            if (count == arr.length) {
+                arr = Arrays.copyOf(arr, count * 2 + 4);
+            }
+            arr[count++] = iter.nextInt();
+        }
+        return count == arr.length ? arr : Arrays.copyOf(arr, count);
+    }
+
+    /**
+     * Returns an iterator over the indexes of each occurrence of the specified
+     * element in this list, in ascending order. Matches are found lazily as
+     * the iterator advances.
+     * @param element element to search for
+     * @return an iterator over the index of each occurrence of the specified
+     * element in this list
+     */
+    public PrimitiveIterator.OfInt indexIterator(E element) {
+        return new PrimitiveIterator.OfInt() {
+            private final ListItr iter = new ListItr(0);
+            private int next = find();
+
+            private int find() {
+                while (iter.hasNext()) {
+                    if (Objects.equals(iter.next(), element)) {
+                        return iter.previousIndex();
+                    }
+                }
+                return -1;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public int nextInt() {
+                iter.checkForComodification();
+                if (next < 0) {
+                    throw new NoSuchElementException();
+                }
+                int index = next;
+                next = find();
+                return index;
+            }
+        };
+    }
+
+    /**
+     * Reverses the data in the list by reversing the order of the chunks and
+     * the elements inside each chunk, in Theta(n).
+     */
+    public void reverse() {
+        Chunk c = head;
+        while (c != null) {
+            Chunk next = c.next;
+            c.next = c.prev;
+            c.prev = next;
+            for (int i = 0, j = c.count - 1; i < j; i++, j--) {
+                Object first = c.elements[i];
+                c.elements[i] = c.elements[j];
+                c.elements[j] = first;
+            }
+            c = next;
+        }
+        Chunk oldHead = head;
+        head = tail;
+        tail = oldHead;
+        if (cursor != null) {
+            cursorStart = size - cursorStart - cursor.count;
+        }
+        modCount++;
+    }
+
+    /**
+     * Returns an iterator over the elements in this list (in proper
+     * sequence). The iterator is fail-fast -- if the list is structurally
+     * modified other than through the iterator's own methods, the iterator
+     * throws ConcurrentModificationException.
+     * @return an iterator over the elements in this list
+     */
+    public Iterator<E> iterator() {
+        return new ListItr(0);
+    }
+
+    /**
+     * Returns a list iterator over the elements in this list (in proper
+     * sequence), starting at the beginning of the list.
+     * @return a fail-fast list iterator over the elements in this list
+     */
+    public ListIterator<E> listIterator() {
+        return new ListItr(0);
+    }
+
+    /**
+     * Returns a list iterator over the elements in this list (in proper
+     * sequence), starting at the specified position in the list.
+     * @param index  index of the first element to be returned by next()
+     * @return a fail-fast list iterator over the elements in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         (index < 0 || index > size())
+     */
+    public ListIterator<E> listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", list size: " + size);
+        }
+        return new ListItr(index);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", list size: " + size);
+        }
+    }
+
+    /**
+     * Returns the chunk holding the element at the specified index, which
+     * must be in range, and moves the cursor there. The element's offset in
+     * the chunk is index - cursorStart.
+     */
+    private Chunk chunkFor(int index) {
+        Chunk c;
+        int start;
+        int fromTail = size - 1 - index;
+        if (cursor != null
+                && Math.abs(index - cursorStart) < Math.min(index, fromTail)) {
+            c = cursor;
+            start = cursorStart;
+        } else if (index <= fromTail) {
+            c = head;
+            start = 0;
+        } else {
+            c = tail;
+            start = size - tail.count;
+        }
+        while (index >= start + c.count) {
+            start += c.count;
+            c = c.next;
+        }
+        while (index < start) {
+            c = c.prev;
+            start -= c.count;
+        }
+        cursor = c;
+        cursorStart = start;
+        return c;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementAt(Chunk c, int offset) {
+        return (E)c.elements[offset];
+    }
+
+    /**
+     * Links chunk c after chunk p, or as the only chunk if p is null.
+     */
+    private void linkAfter(Chunk p, Chunk c) {
+        if (p == null) {
+            head = tail = c;
+            return;
+        }
+        c.prev = p;
+        c.next = p.next;
+        if (p.next == null) {
+            tail = c;
+        } else {
+            p.next.prev = c;
+        }
+        p.next = c;
+    }
+
+    private void unlink(Chunk c) {
+        if (c.prev == null) {
+            head = c.next;
+        } else {
+            c.prev.next = c.next;
+        }
+        if (c.next == null) {
+            tail = c.prev;
+        } else {
+            c.next.prev = c.prev;
+        }
+    }
+
+    private class ListItr implements ListIterator<E> {
+        /**
+         * The next element is chunk.elements[offset]. offset may equal
+         * chunk.count, in which case the next element is at the start of the
+         * following chunk.
+         */
+        private Chunk chunk;
+        private int offset;
+        private int nextIndex;
+        private Chunk lastChunk;
+        private int lastOffset, lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        ListItr(int index) {
+            moveTo(index);
+        }
+
+        private void moveTo(int index) {
+            nextIndex = index;
+            if (index < size) {
+                chunk = chunkFor(index);
+                offset = index - cursorStart;
+            } else {
+                chunk = tail;
+                offset = tail == null ? 0 : tail.count;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if (nextIndex >= size) {
+                throw new NoSuchElementException();
+            }
+            while (offset >= chunk.count) {
+                chunk = chunk.next;
+                offset = 0;
+            }
+            lastChunk = chunk;
+            lastOffset = offset;
+            lastReturned = nextIndex++;
+            return elementAt(chunk, offset++);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+            if (nextIndex <= 0) {
+                throw new NoSuchElementException();
+            }
+            while (offset == 0) {
+                chunk = chunk.prev;
+                offset = chunk.count;
+            }
+            lastChunk = chunk;
+            lastOffset = --offset;
+            lastReturned = --nextIndex;
+            return elementAt(chunk, offset);
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            // Point the cursor at the chunk so the removal does not walk.
+            cursor = lastChunk;
+            cursorStart = lastReturned - lastOffset;
+            UnrolledLinkedList.this.remove(lastReturned);
+            moveTo(lastReturned);
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E element) {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            lastChunk.elements[lastOffset] = element;
+        }
+
+        @Override
+        public void add(E element) {
+            checkForComodification();
+            if (chunk != null) {
+                cursor = chunk;
+                cursorStart = nextIndex - offset;
+            }
+            UnrolledLinkedList.this.add(nextIndex, element);
+            moveTo(nextIndex + 1);
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private class Chunk {
+        Chunk next, prev;
+        final Object[] elements = new Object[CHUNK_CAPACITY];
+        int count;
+    }
+
+    /**
+     * Applies the same operations to an UnrolledLinkedList and a MyLinkedList
+     * and checks after each step that the two lists hold the same elements.
+     * The steps are:
+     * 1. inserts and removes at chunk boundaries (first and last offsets of
+     *    a chunk, and the first index of the following chunk);
+     * 2. repeated inserts into one chunk, which split it, followed by removes
+     *    that empty and merge chunks;
+     * 3. reverse(), followed by index-based operations on the reversed list;
+     * 4. ListIterator add, remove and set, walking forwards and backwards;
+     * 5. a seeded random mix of all of the above.
+     * @param args unused
+     */
+    public static void main(String[] args) {
+        UnrolledLinkedList<Integer> unrolled = new UnrolledLinkedList<>();
+        MyLinkedList<Integer> linked = new MyLinkedList<>();
+        int failures = 0;
+        int next = 0;
+
+        // 1. Chunk boundaries.
+        for (int i = 0; i < 3 * CHUNK_CAPACITY; i++, next++) {
+            unrolled.add(next);
+            linked.add(next);
+        }
+        int[] boundaries = {0, CHUNK_CAPACITY - 1, CHUNK_CAPACITY,
+                2 * CHUNK_CAPACITY - 1, 2 * CHUNK_CAPACITY};
+        for (int index : boundaries) {
+            unrolled.add(index, next);
+            linked.add(index, next++);
+            failures += differences(unrolled, linked);
+        }
+        unrolled.add(unrolled.size(), next);
+        linked.add(linked.size(), next++);
+        for (int index : boundaries) {
+            if (!unrolled.remove(index).equals(linked.remove(index))) {
+                failures++;
+            }
+            failures += differences(unrolled, linked);
+        }
+        unrolled.remove(unrolled.size() - 1);
+        linked.remove(linked.size() - 1);
+        failures += differences(unrolled, linked);
+        System.out.println("Boundary mismatches : " + failures);
+
+        // 2. Splits, then merges.
+        int before = failures;
+        for (int i = 0; i < 4 * CHUNK_CAPACITY; i++, next++) {
+            int index = CHUNK_CAPACITY / 2 + i % 3;
+            unrolled.add(index, next);
+            linked.add(index, next);
+        }
+        failures += differences(unrolled, linked);
+        while (unrolled.size() > 3) {
+            int index = unrolled.size() / 3;
+            if (!unrolled.remove(index).equals(linked.remove(index))) {
+                failures++;
+            }
+        }
+        failures += differences(unrolled, linked);
+        System.out.println("Split/merge mismatches: " + (failures - before));
+
+        // 3. reverse().
+        before = failures;
+        for (int i = 0; i < 5 * CHUNK_CAPACITY / 2; i++, next++) {
+            unrolled.add(next);
+            linked.add(next);
+        }
+        unrolled.get(CHUNK_CAPACITY + 1);
+        linked.get(CHUNK_CAPACITY + 1);
+        unrolled.reverse();
+        linked.reverse();
+        failures += differences(unrolled, linked);
+        unrolled.add(CHUNK_CAPACITY, next);
+        linked.add(CHUNK_CAPACITY, next++);
+        if (!unrolled.remove(3).equals(linked.remove(3))) {
+            failures++;
+        }
+        unrolled.set(unrolled.size() - 2, next);
+        linked.set(linked.size() - 2, next++);
+        failures += differences(unrolled, linked);
+        System.out.println("Reverse mismatches  : " + (failures - before));
+
+        // 4. ListIterator add, remove and set.
+        before = failures;
+        ListIterator<Integer> u = unrolled.listIterator();
+        ListIterator<Integer> l = linked.listIterator();
+        for (int i = 0; u.hasNext(); i++) {
+            if (!u.next().equals(l.next())) {
+                failures++;
+            }
+            if (i % 5 == 0) {
+                u.remove();
+                l.remove();
+            } else if (i % 5 == 1) {
+                u.set(next);
+                l.set(next++);
+            } else if (i % 5 == 2) {
+                u.add(next);
+                l.add(next++);
+            }
+        }
+        failures += differences(unrolled, linked);
+        for (int i = 0; u.hasPrevious(); i++) {
+            if (!u.previous().equals(l.previous())) {
+                failures++;
+            }
+            if (i % 4 == 0) {
+                u.remove();
+                l.remove();
+            } else if (i % 4 == 1) {
+                u.add(next);
+                l.add(next++);
+            } else if (i % 4 == 2) {
+                u.set(next);
+                l.set(next++);
+            }
+        }
+        failures += differences(unrolled, linked);
+        System.out.println("Iterator mismatches : " + (failures - before));
+
+        // 5. Random mix.
+        before = failures;
+        Random random = new Random(42);
+        for (int step = 0; step < 20000; step++) {
+            int op = random.nextInt(10);
+            int size = unrolled.size();
+            if (op < 4 || size == 0) {
+                int index = random.nextInt(size + 1);
+                unrolled.add(index, next);
+                linked.add(index, next++);
+            } else if (op < 7) {
+                int index = random.nextInt(size);
+                if (!unrolled.remove(index).equals(linked.remove(index))) {
+                    failures++;
+                }
+            } else if (op < 8) {
+                int index = random.nextInt(size);
+                if (!unrolled.set(index, next).equals(linked.set(index, next++))) {
+                    failures++;
+                }
+            } else if (op < 9) {
+                unrolled.reverse();
+                linked.reverse();
+            } else {
+                int index = random.nextInt(size + 1);
+                u = unrolled.listIterator(index);
+                l = linked.listIterator(index);
+                if (u.hasNext()) {
+                    u.next();
+                    l.next();
+                    u.remove();
+                    l.remove();
+                }
+                u.add(next);
+                l.add(next++);
+            }
+            if (step % 1000 == 0) {
+                failures += differences(unrolled, linked);
+            }
+        }
+        failures += differences(unrolled, linked);
+        System.out.println("Random mismatches   : " + (failures - before));
+
+        if (failures != 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Returns 1 if the lists differ in size, contents read by index, or
+     * string form, and 0 otherwise.
+     */
+    private static int differences(MyList<Integer> a, MyList<Integer> b) {
+        if (a.size() != b.size() || !a.toString().equals(b.toString())) {
+            return 1;
+        }
+        for (int i = 0; i < a.size(); i++) {
+            if (!a.get(i).equals(b.get(i))) {
+                return 1;
+            }
+        }
+        return 0;
+    }
+}
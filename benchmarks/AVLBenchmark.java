@@ -0,0 +1,352 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks AVLTreeMap's iterative put and remove, which rebalance
+ * bottom-up through the parent links, against the recursive versions they
+ * replaced. Keys are the Integers 0 to n - 1, inserted and removed either in
+ * ascending or in shuffled order. Three workloads are timed:
+ * <ul>
+ *   <li>put: building the map from empty</li>
+ *   <li>put existing: overwriting the value of every key in a full map,
+ *       which allocates nothing in the iterative version</li>
+ *   <li>remove: emptying a full map</li>
+ * </ul>
+ * The recursive version recomputes subtree heights from scratch, so each of
+ * its operations takes time proportional to the size of the map. It is only
+ * run once per invocation and only up to MAX_RECURSIVE_SIZE keys; the
+ * iterative version runs at every size.
+ * <p>
+ * Usage: java AVLBenchmark [maxSize]
+ * <br>
+ * Sizes run from 1,000 up to maxSize (default 10,000,000) in powers of ten.
+ * The 10,000,000 key workloads need a larger heap, e.g. -Xmx4g.
+ * @author Amelie Sharples aes2367
+ * @version 1.0 October 18, 2026
+ */
+public class AVLBenchmark {
+    /**
+     * The largest size at which the recursive version is run. Beyond it a
+     * single build takes minutes.
+     */
+    private static final int MAX_RECURSIVE_SIZE = 1000;
+    /**
+     * Small maps are built repeatedly until each timed invocation performs
+     * at least this many operations. The recursive version is slow enough
+     * that it is never repeated.
+     */
+    private static final int MIN_OPS_PER_INVOCATION = 1000000;
+
+    public static void main(String[] args) {
+        int maxSize = args.length > 0 ? Integer.parseInt(args[0]) : 10000000;
+        for (int size = 1000; size > 0 && size <= maxSize; size *= 10) {
+            Integer[] keys = new Integer[size];
+            int[] ascending = new int[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = i;
+                ascending[i] = i;
+            }
+            int[] shuffled = ascending.clone();
+            Random random = new Random(size);
+            for (int i = size - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int tmp = shuffled[i];
+                shuffled[i] = shuffled[j];
+                shuffled[j] = tmp;
+            }
+            run("iterative", AVLTreeMap::new, "sequential", keys, ascending);
+            run("recursive", RecursiveAVLTreeMap::new, "sequential", keys,
+                    ascending);
+            run("iterative", AVLTreeMap::new, "random", keys, shuffled);
+            run("recursive", RecursiveAVLTreeMap::new, "random", keys,
+                    shuffled);
+        }
+    }
+
+    private static void run(String implementation,
+            Supplier<BSTMap<Integer, Integer>> factory, String order,
+            Integer[] keys, int[] indexes) {
+        int n = keys.length;
+        String name = implementation + " " + order + " n=" + n;
+        if (implementation.equals("recursive") && n > MAX_RECURSIVE_SIZE) {
+            System.out.println(name + ": skipped, every operation takes time"
+                    + " proportional to the size of the map");
+            System.out.println();
+            return;
+        }
+        int repeat = implementation.equals("recursive") ? 1
+                : Math.max(1, MIN_OPS_PER_INVOCATION / n);
+        long ops = (long)n * repeat;
+        Supplier<BSTMap<Integer, Integer>> filled = () -> {
+            BSTMap<Integer, Integer> map = factory.get();
+            for (int i = 0; i < n; i++) {
+                map.put(keys[indexes[i]], keys[i]);
+            }
+            return map;
+        };
+
+        System.out.println(name);
+        Benchmark.printHeader();
+        Benchmark.measure("  put", ops, () -> null, unused -> {
+            BSTMap<Integer, Integer> map = null;
+            for (int r = 0; r < repeat; r++) {
+                map = filled.get();
+            }
+            return map;
+        });
+        BSTMap<Integer, Integer> full = filled.get();
+        Benchmark.measure("  put existing", ops, () -> full, map -> {
+            for (int r = 0; r < repeat; r++) {
+                for (int i = 0; i < n; i++) {
+                    map.put(keys[indexes[i]], keys[r % n]);
+                }
+            }
+            return map;
+        });
+        Benchmark.measure("  remove", ops, () -> {
+            List<BSTMap<Integer, Integer>> maps = new ArrayList<>(repeat);
+            for (int r = 0; r < repeat; r++) {
+                maps.add(filled.get());
+            }
+            return maps;
+        }, maps -> {
+            for (BSTMap<Integer, Integer> map : maps) {
+                for (int i = 0; i < n; i++) {
+                    map.remove(keys[indexes[i]]);
+                }
+            }
+            return maps;
+        });
+        System.out.println();
+    }
+
+    /**
+     * The recursive AVLTreeMap put and remove this benchmark compares
+     * against, copied without their doc comments. put() allocates a
+     * NodeOldValuePair, searches the tree twice and rebalances at the root,
+     * and remove() recurses through removeHelper(); both compute heights
+     * recursively.
+     */
+    private static class RecursiveAVLTreeMap<K extends Comparable<K>, V>
+            extends BSTMap<K, V> {
+        @Override
+        public V put(K key, V value) {
+            NodeOldValuePair nvp = new NodeOldValuePair(null, null);
+            nvp = insertAndBalance(key, value, root, nvp);
+            return nvp.oldValue;
+        }
+
+        private Node<K, V> removeHelper(
+                K oriKey, K key, Node<K, V> t, NodeOldValuePair nvp) {
+            if(t == null) {
+                return t;
+            }
+            int comparison = key.compareTo(t.key);
+            int compOriKey = oriKey.compareTo(t.key);
+            if(compOriKey == 0) {
+                nvp.node = t;
+                nvp.oldValue = t.value;
+            }
+            if(comparison < 0) {
+                t.left = removeHelper(oriKey, key, t.left, nvp);
+                if(t.left != null) {
+                    t.left.parent = t;
+                }
+            } else if(comparison > 0) {
+                t.right = removeHelper(oriKey, key, t.right, nvp);
+                if(t.right != null) {
+                    t.right.parent = t;
+                }
+            } else if(t.left != null && t.right != null) {
+                Node<K, V> p = treeMin(t.right);
+                t.key = p.key;
+                t.value = p.value;
+                t.right = removeHelper(oriKey, t.key, t.right, nvp);
+                if(t.right != null) {
+                    t.right.parent = t;
+                }
+            } else {
+                if(t == root) {
+                    if(t.left != null && t.right == null) {
+                        root = t.left;
+                    } else if(t.right != null && t.left == null) {
+                        root = t.right;
+                    }
+                    root.parent = null;
+                }
+                t = (t.left != null) ? t.left : t.right;
+            }
+            return balance(t);
+        }
+        public V remove(K key) {
+            if(size == 1) {
+                size--;
+                V val = root.value;
+                root = null;
+                return val;
+            }
+            NodeOldValuePair nvp = new NodeOldValuePair(root, root.value);
+            removeHelper(key, key, root, nvp);
+            size--;
+            return nvp.oldValue;
+        }
+
+        protected Node<K, V> treeMin(Node<K, V> x) {
+            while (x.left != null) {
+                x = x.left;
+            }
+            return x;
+        }
+
+        private NodeOldValuePair insertAndBalance(
+                K key, V value, Node<K, V> t, NodeOldValuePair nvp) {
+            if (t == null) {
+                size++;
+                nvp.node = new Node<K, V>(key, value);
+                if (root == null) {
+                    root = nvp.node;
+                }
+                return nvp;
+            }
+            int comparison = key.compareTo(t.key);
+            Node<K, V> k = iterativeSearch(key);
+            nvp.node = k;
+            if(k != null) {
+                nvp.oldValue = k.value;
+                k.value = value;
+            } else { //putting iteratively
+                Node<K, V> a = root;
+                Node<K, V> b = null;
+                while (a != null) {
+                    b = a;
+                    comparison = key.compareTo(a.key);
+                    if (comparison < 0) {
+                        a = a.left;
+                    } else if (comparison > 0) {
+                        a = a.right;
+                    }
+                }
+                nvp.node = new Node<K, V>(key, value);
+                nvp.node.parent = b;
+                if (b == null) {
+                    root = nvp.node;
+                } else if (key.compareTo(b.key) < 0) {
+                    b.left = nvp.node;
+                } else {
+                    b.right = nvp.node;
+                }
+                size++;
+            }
+            Node<K, V> n = balance(t);
+            nvp.node = n;
+            return nvp;
+        }
+
+        private Node<K, V> balance(Node<K, V> t)
+        {
+            if(t == null)
+            {
+                return null;
+            }
+            else if((height(t.left) - height(t.right)) > 1)
+            {
+                if (t.left != null &&
+                        height(t.left.left) >= height(t.left.right))
+                {
+                    t = rotateWithLeftChild(t);
+                } else {
+                    t = doubleWithLeftChild(t);
+                }
+            }
+            else if(height(t.right) - height(t.left) > 1)
+            {
+                if(t.left != null && t.right != null &&
+                        height(t.right.right) >= height(t.right.left))
+                {
+                    t = rotateWithRightChild(t);
+                }
+                else {
+                    t = doubleWithRightChild(t);
+                }
+            }
+
+            t.height = Math.max(height(t.left), height(t.right));
+            return t;
+        }
+
+        private int avlHeight(Node<K, V> t) {
+            return t == null ? -1 : t.height;
+        }
+
+        private Node<K, V> rotateWithLeftChild(Node<K, V> k2)
+        {
+            if(k2.left == null) {
+                return k2;
+            }
+            Node<K, V> k1 = k2.left;
+
+            k2.left = k1.right;
+            if(k2.left != null) {
+                k2.left.parent = k2;
+            }
+
+            k1.right = k2;
+            k1.parent = k2.parent;
+            k2.parent = k1;
+
+            k2.height = Math.max(height(k2.left), height(k2.right)) + 1;
+            k1.height = Math.max(height(k1.left), k2.height) + 1;
+
+            if(k1.parent == null) {
+                root = k1;
+            }
+            return k1;
+        }
+
+        private Node<K, V> rotateWithRightChild(Node<K, V> k1)
+        {
+            if(k1.right == null) {
+                return k1;
+            }
+            Node<K, V> k2 = k1.right;
+
+            k1.right = k2.left;
+            if(k1.right != null) {
+                k1.right.parent = k1;
+            }
+
+            k2.left = k1;
+            k2.parent = k1.parent;
+            k1.parent = k2;
+
+            k1.height = Math.max(height(k1.right), height(k1.left)) + 1;
+            k2.height = Math.max(height(k2.right), height(k1)) + 1;
+
+            if(k2.parent == null) {
+                root = k2;
+            }
+            return k2;
+        }
+        private Node<K, V> doubleWithLeftChild(Node<K, V> k3) {
+            k3.left = rotateWithRightChild(k3.left);
+            return rotateWithLeftChild(k3);
+        }
+
+        private Node<K, V> doubleWithRightChild(Node<K, V> k3) {
+            k3.right = rotateWithLeftChild(k3.right);
+            return rotateWithRightChild(k3);
+        }
+
+        private class NodeOldValuePair {
+            Node<K, V> node;
+            V oldValue;
+
+            NodeOldValuePair(Node<K, V> n, V oldValue) {
+                this.node = n;
+                this.oldValue = oldValue;
+            }
+        }
+    }
+}
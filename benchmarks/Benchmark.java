@@ -0,0 +1,135 @@
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Minimal harness shared by the benchmarks in this directory. Each
+ * measurement runs the body for a number of warmup iterations so the JIT
+ * compiles it, then for a number of timed iterations, and reports the
+ * average time per operation, the throughput, and the bytes allocated per
+ * operation by the measuring thread.
+ * @author Amelie Sharples aes2367
+ * @version 1.0 October 18, 2026
+ */
+public final class Benchmark {
+    private static final int WARMUP_ITERATIONS = 5, MEASURED_ITERATIONS = 10;
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+
+    /**
+     * Results are stored here so the JIT cannot eliminate the work that
+     * produced them.
+     */
+    public static volatile Object blackhole;
+
+    private Benchmark() { }
+
+    /**
+     * Something to measure. Each invocation of run() performs some number of
+     * operations and returns a value derived from them.
+     */
+    public interface Body {
+        Object run();
+    }
+
+    /**
+     * Prints the header matching the lines printed by measure().
+     */
+    public static void printHeader() {
+        System.out.printf("%-50s %12s %14s %12s%n",
+                "Benchmark", "ns/op", "ops/s", "B/op");
+    }
+
+    /**
+     * Prints the header matching the lines printed by latency().
+     */
+    public static void printLatencyHeader() {
+        System.out.printf("%-50s %10s %10s %10s %10s%n",
+                "Benchmark", "p50 ns", "p99 ns", "p99.9 ns", "max ns");
+    }
+
+    /**
+     * Measures the given body and prints one line of results.
+     * @param name             the name of the measurement
+     * @param opsPerInvocation the number of operations one call to
+     *                         body.run() performs
+     * @param body             the code to measure
+     * @return the average time per operation, in nanoseconds
+     */
+    public static double measure(String name, long opsPerInvocation,
+                                 Body body) {
+        return measure(name, opsPerInvocation, () -> null, state -> body.run());
+    }
+
+    /**
+     * Measures the given body and prints one line of results. Before every
+     * invocation of the body, setup is called to build the state it works
+     * on; the time and memory spent in setup are not counted.
+     * @param name             the name of the measurement
+     * @param opsPerInvocation the number of operations one call to
+     *                         body.apply() performs
+     * @param setup            builds a fresh state for each invocation
+     * @param body             the code to measure
+     * @return the average time per operation, in nanoseconds
+     */
+    public static <T> double measure(String name, long opsPerInvocation,
+                                     Supplier<T> setup,
+                                     Function<T, Object> body) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            blackhole = body.apply(setup.get());
+        }
+        long threadId = Thread.currentThread().getId();
+        long elapsed = 0, bytes = 0;
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            T state = setup.get();
+            long bytesBefore = THREADS.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            blackhole = body.apply(state);
+            elapsed += System.nanoTime() - start;
+            bytes += THREADS.getThreadAllocatedBytes(threadId) - bytesBefore;
+        }
+        double ops = (double)opsPerInvocation * MEASURED_ITERATIONS;
+        double nsPerOp = elapsed / ops;
+        System.out.printf("%-50s %12.2f %14.0f %12.1f%n",
+                name, nsPerOp, 1e9 / nsPerOp, bytes / ops);
+        return nsPerOp;
+    }
+
+    /**
+     * Times each of the given operations individually and prints the
+     * distribution of their latencies. The figures include the cost of
+     * reading the clock, roughly 20 to 30 ns on most machines, so they are
+     * most useful for spotting outliers such as a rehash.
+     * @param name  the name of the measurement
+     * @param ops   the number of operations
+     * @param setup builds a fresh state and returns a function that performs
+     *              operation i on it and returns a value derived from it; it
+     *              is called once for a warmup pass and once for the timed
+     *              pass
+     */
+    public static void latency(String name, int ops,
+                               Supplier<IntFunction<Object>> setup) {
+        IntFunction<Object> op = setup.get();
+        for (int i = 0; i < ops; i++) {
+            blackhole = op.apply(i);
+        }
+        op = setup.get();
+        long[] times = new long[ops];
+        for (int i = 0; i < ops; i++) {
+            long start = System.nanoTime();
+            blackhole = op.apply(i);
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        System.out.printf("%-50s %10d %10d %10d %10d%n", name,
+                percentile(times, 0.5), percentile(times, 0.99),
+                percentile(times, 0.999), times[ops - 1]);
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        return sorted[Math.min(sorted.length - 1,
+                (int)(sorted.length * fraction))];
+    }
+}
@@ -0,0 +1,148 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks building an AVLTreeMap with the bulk loaders against inserting
+ * the same pairs one put() at a time, and merging a sorted batch into an
+ * existing map with putAll() against putting the batch one pair at a time.
+ * <p>
+ * For a map of n keys, the keys are the even Integers 0 to 2n - 2, given in
+ * shuffled order. The loads are:
+ * <ul>
+ *   <li>put: n individual puts into an empty map</li>
+ *   <li>putAll unsorted: putAll(pairs), which copies, sorts and builds</li>
+ *   <li>putAll sorted: putAll(pairs, true) with the pairs already
+ *       sorted</li>
+ *   <li>putAll iterator: putAll(iterator) over the shuffled pairs</li>
+ * </ul>
+ * The merges add a sorted batch of odd keys, 1%, 10% and 100% of n, to a
+ * full map. putAll() puts a batch below a quarter of the map's size and
+ * rebuilds the tree for anything larger, so the first two batches show the
+ * first path and the last batch the second.
+ * <p>
+ * Usage: java BulkLoadBenchmark [maxSize]
+ * <br>
+ * Sizes run from 1,000 up to maxSize (default 1,000,000) in powers of ten.
+ * Sizes of 10,000,000 need a larger heap, e.g. -Xmx4g.
+ * @author Amelie Sharples aes2367
+ * @version 1.0 October 18, 2026
+ */
+public class BulkLoadBenchmark {
+    /**
+     * Small maps are built or merged into repeatedly until each timed
+     * invocation handles at least this many pairs.
+     */
+    private static final int MIN_OPS_PER_INVOCATION = 1000000;
+
+    public static void main(String[] args) {
+        int maxSize = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        for (int n = 1000; n > 0 && n <= maxSize; n *= 10) {
+            Random random = new Random(n);
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            Pair<Integer, Integer>[] shuffled = new Pair[n];
+            for (int i = 0; i < n; i++) {
+                shuffled[i] = new Pair<>(2 * i, i);
+            }
+            for (int i = n - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                Pair<Integer, Integer> tmp = shuffled[i];
+                shuffled[i] = shuffled[j];
+                shuffled[j] = tmp;
+            }
+            Pair<Integer, Integer>[] sorted = shuffled.clone();
+            Arrays.sort(sorted, (a, b) -> a.key.compareTo(b.key));
+            load(shuffled, sorted);
+            merge(sorted, n / 100);
+            merge(sorted, n / 10);
+            merge(sorted, n);
+        }
+    }
+
+    private static void load(Pair<Integer, Integer>[] shuffled,
+            Pair<Integer, Integer>[] sorted) {
+        int n = shuffled.length;
+        int repeat = Math.max(1, MIN_OPS_PER_INVOCATION / n);
+        long ops = (long)n * repeat;
+
+        System.out.println("load n=" + n);
+        Benchmark.printHeader();
+        Benchmark.measure("  put", ops, () -> {
+            AVLTreeMap<Integer, Integer> map = null;
+            for (int r = 0; r < repeat; r++) {
+                map = new AVLTreeMap<>();
+                for (Pair<Integer, Integer> pair : shuffled) {
+                    map.put(pair.key, pair.value);
+                }
+            }
+            return map;
+        });
+        Benchmark.measure("  putAll unsorted", ops, () -> {
+            AVLTreeMap<Integer, Integer> map = null;
+            for (int r = 0; r < repeat; r++) {
+                map = new AVLTreeMap<>();
+                map.putAll(shuffled);
+            }
+            return map;
+        });
+        Benchmark.measure("  putAll sorted", ops, () -> {
+            AVLTreeMap<Integer, Integer> map = null;
+            for (int r = 0; r < repeat; r++) {
+                map = new AVLTreeMap<>();
+                map.putAll(sorted, true);
+            }
+            return map;
+        });
+        Benchmark.measure("  putAll iterator", ops, () -> {
+            AVLTreeMap<Integer, Integer> map = null;
+            for (int r = 0; r < repeat; r++) {
+                map = new AVLTreeMap<>();
+                map.putAll(Arrays.asList(shuffled).iterator());
+            }
+            return map;
+        });
+        System.out.println();
+    }
+
+    private static void merge(Pair<Integer, Integer>[] sorted, int m) {
+        int n = sorted.length;
+        if (m == 0) {
+            return;
+        }
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Pair<Integer, Integer>[] batch = new Pair[m];
+        int stride = n / m;
+        for (int i = 0; i < m; i++) {
+            batch[i] = new Pair<>(2 * i * stride + 1, i);
+        }
+        int repeat = Math.max(1, MIN_OPS_PER_INVOCATION / (n + m));
+        long ops = (long)m * repeat;
+        Supplier<List<AVLTreeMap<Integer, Integer>>> full = () -> {
+            List<AVLTreeMap<Integer, Integer>> maps = new ArrayList<>(repeat);
+            for (int r = 0; r < repeat; r++) {
+                maps.add(new AVLTreeMap<>(sorted, true));
+            }
+            return maps;
+        };
+
+        System.out.println("merge " + m + " keys into n=" + n);
+        Benchmark.printHeader();
+        Benchmark.measure("  put", ops, full, maps -> {
+            for (AVLTreeMap<Integer, Integer> map : maps) {
+                for (Pair<Integer, Integer> pair : batch) {
+                    map.put(pair.key, pair.value);
+                }
+            }
+            return maps;
+        });
+        Benchmark.measure("  putAll sorted", ops, full, maps -> {
+            for (AVLTreeMap<Integer, Integer> map : maps) {
+                map.putAll(batch, true);
+            }
+            return maps;
+        });
+        System.out.println();
+    }
+}
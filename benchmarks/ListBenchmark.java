@@ -0,0 +1,390 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.PrimitiveIterator;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks every MyList method on MyArrayList, MyLinkedList and
+ * UnrolledLinkedList, with java.util.ArrayList and java.util.LinkedList as
+ * baselines, at several list sizes. Positional methods (get, set,
+ * add(int, E), remove(int) and indexOf) are run at the head, middle and tail
+ * of the list. Whole-list methods (appending n elements, iteration,
+ * indexesOf, reverse, toString and clear) are reported per element.
+ * <p>
+ * Usage: java ListBenchmark [maxSize] [implementation...]
+ * <br>
+ * Sizes run from 100 up to maxSize (default 1,000,000) in powers of 100.
+ * The implementations are array, linked, unrolled, jdk-array and jdk-linked
+ * (default all).
+ * @author Amelie Sharples aes2367
+ * @version 1.0 October 18, 2026
+ */
+public class ListBenchmark {
+    /**
+     * Lists are copied until each timed invocation works on at least this
+     * many elements, so small lists still give measurements long enough for
+     * the JIT to settle.
+     */
+    private static final int MIN_ELEMENTS_PER_INVOCATION = 1000000;
+
+    /**
+     * Bounds the number of element visits the positional operations of one
+     * invocation are expected to make, so linear-time operations on a large
+     * linked list still finish in a few milliseconds.
+     */
+    private static final long VISIT_BUDGET = 10000000;
+
+    /**
+     * Index-based scans call get(i) for every index, and filtering through a
+     * list iterator removes every other element. Each takes quadratic time
+     * on some implementations: scans on a list that walks from an end each
+     * time, filtering on an array that shifts its tail on every removal.
+     * These benchmarks are repeated until they cover MIN_SCAN_ELEMENTS
+     * elements, and are skipped on the quadratic implementations above
+     * MAX_QUADRATIC_SIZE elements.
+     */
+    private static final int MIN_SCAN_ELEMENTS = 100000;
+    private static final int MAX_QUADRATIC_SIZE = 10000;
+
+    private enum Position { HEAD, MIDDLE, TAIL }
+
+    private static final String[] IMPLEMENTATIONS =
+            { "array", "linked", "unrolled", "jdk-array", "jdk-linked" };
+
+    public static void main(String[] args) {
+        int maxSize = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        List<String> implementations = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            implementations.add(args[i].toLowerCase());
+        }
+        if (implementations.isEmpty()) {
+            implementations.addAll(List.of(IMPLEMENTATIONS));
+        }
+        for (int size = 100; size > 0 && size <= maxSize; size *= 100) {
+            Integer[] values = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = i;
+            }
+            for (String implementation : implementations) {
+                run(implementation, values);
+            }
+        }
+    }
+
+    private static void run(String implementation, Integer[] values) {
+        Supplier<MyList<Integer>> factory = factory(implementation);
+        int n = values.length;
+        int copies = Math.max(1, MIN_ELEMENTS_PER_INVOCATION / n);
+        // Positional mutations change the size by at most a tenth.
+        int k = (int)Math.max(1,
+                Math.min(n / 10, VISIT_BUDGET / ((long)n * copies)));
+        Supplier<MyList<Integer>> filled = () -> {
+            MyList<Integer> list = factory.get();
+            for (Integer value : values) {
+                list.add(value);
+            }
+            return list;
+        };
+        Supplier<List<MyList<Integer>>> filledCopies = () -> {
+            List<MyList<Integer>> lists = new ArrayList<>(copies);
+            for (int c = 0; c < copies; c++) {
+                lists.add(filled.get());
+            }
+            return lists;
+        };
+        MyList<Integer> shared = filled.get();
+
+        System.out.println(implementation + " n=" + n);
+        Benchmark.printHeader();
+        Benchmark.measure("  add(E), per element", (long)n * copies, () -> null,
+                unused -> {
+                    MyList<Integer> list = null;
+                    for (int c = 0; c < copies; c++) {
+                        list = factory.get();
+                        for (Integer value : values) {
+                            list.add(value);
+                        }
+                    }
+                    return list;
+                });
+        for (Position position : Position.values()) {
+            String at = " " + position.name().toLowerCase();
+            Benchmark.measure("  get(int)" + at, (long)k * copies,
+                    () -> shared, list -> {
+                        int index = index(position, list.size() - 2);
+                        int sum = 0;
+                        for (int i = k * copies; i > 0; i--) {
+                            sum += list.get(index + (i & 1));
+                        }
+                        return sum;
+                    });
+            Benchmark.measure("  set(int, E)" + at, (long)k * copies,
+                    () -> shared, list -> {
+                        int index = index(position, list.size() - 2);
+                        for (int i = k * copies; i > 0; i--) {
+                            list.set(index + (i & 1), values[index + (i & 1)]);
+                        }
+                        return list;
+                    });
+            Benchmark.measure("  indexOf(E)" + at, (long)k * copies,
+                    () -> shared, list -> {
+                        int index = index(position, n - 2);
+                        int sum = 0;
+                        for (int i = k * copies; i > 0; i--) {
+                            sum += list.indexOf(values[index + (i & 1)]);
+                        }
+                        return sum;
+                    });
+            Benchmark.measure("  add(int, E)" + at, (long)k * copies,
+                    filledCopies, lists -> {
+                        for (MyList<Integer> list : lists) {
+                            for (int i = 0; i < k; i++) {
+                                list.add(index(position, list.size()), values[i]);
+                            }
+                        }
+                        return lists;
+                    });
+            Benchmark.measure("  remove(int)" + at, (long)k * copies,
+                    filledCopies, lists -> {
+                        int sum = 0;
+                        for (MyList<Integer> list : lists) {
+                            for (int i = 0; i < k; i++) {
+                                sum += list.remove(
+                                        index(position, list.size() - 1));
+                            }
+                        }
+                        return sum;
+                    });
+        }
+        int scans = Math.max(1, MIN_SCAN_ELEMENTS / n);
+        if (implementation.equals("jdk-linked") && n > MAX_QUADRATIC_SIZE) {
+            System.out.println("  get(int) scans skipped, quadratic time");
+        } else {
+            Benchmark.measure("  get(int) forward scan, per element",
+                    (long)n * scans, () -> shared, list -> {
+                        int sum = 0;
+                        for (int c = 0; c < scans; c++) {
+                            for (int i = 0; i < n; i++) {
+                                sum += list.get(i);
+                            }
+                        }
+                        return sum;
+                    });
+            Benchmark.measure("  get(int) backward scan, per element",
+                    (long)n * scans, () -> shared, list -> {
+                        int sum = 0;
+                        for (int c = 0; c < scans; c++) {
+                            for (int i = n - 1; i >= 0; i--) {
+                                sum += list.get(i);
+                            }
+                        }
+                        return sum;
+                    });
+        }
+        Benchmark.measure("  iterator(), per element", (long)n * copies,
+                () -> shared, list -> {
+                    int sum = 0;
+                    for (int c = 0; c < copies; c++) {
+                        Iterator<Integer> iter = list.iterator();
+                        while (iter.hasNext()) {
+                            sum += iter.next();
+                        }
+                    }
+                    return sum;
+                });
+        if (implementation.contains("array") && n > MAX_QUADRATIC_SIZE) {
+            System.out.println("  listIterator() filtering skipped, quadratic"
+                    + " time");
+        } else {
+            Benchmark.measure("  listIterator() remove every other, per element",
+                    (long)n * scans, () -> {
+                        List<MyList<Integer>> lists = new ArrayList<>(scans);
+                        for (int c = 0; c < scans; c++) {
+                            lists.add(filled.get());
+                        }
+                        return lists;
+                    }, lists -> {
+                        for (MyList<Integer> list : lists) {
+                            ListIterator<Integer> iter = list.listIterator();
+                            while (iter.hasNext()) {
+                                if ((iter.next() & 1) == 0) {
+                                    iter.remove();
+                                }
+                            }
+                        }
+                        return lists;
+                    });
+        }
+        Benchmark.measure("  indexesOf(E), per element", (long)n * copies,
+                () -> shared, list -> {
+                    int sum = 0;
+                    for (int c = 0; c < copies; c++) {
+                        sum += list.indexesOf(values[n / 2]).length;
+                    }
+                    return sum;
+                });
+        Benchmark.measure("  indexIterator(E), per element", (long)n * copies,
+                () -> shared, list -> {
+                    int sum = 0;
+                    for (int c = 0; c < copies; c++) {
+                        PrimitiveIterator.OfInt iter =
+                                list.indexIterator(values[n / 2]);
+                        while (iter.hasNext()) {
+                            sum += iter.nextInt();
+                        }
+                    }
+                    return sum;
+                });
+        Benchmark.measure("  reverse(), per element", (long)n * copies,
+                () -> shared, list -> {
+                    for (int c = 0; c < copies; c++) {
+                        list.reverse();
+                    }
+                    return list;
+                });
+        Benchmark.measure("  toString(), per element", (long)n * copies,
+                () -> shared, list -> {
+                    int length = 0;
+                    for (int c = 0; c < copies; c++) {
+                        length += list.toString().length();
+                    }
+                    return length;
+                });
+        Benchmark.measure("  clear(), per element", (long)n * copies,
+                filledCopies, lists -> {
+                    for (MyList<Integer> list : lists) {
+                        list.clear();
+                    }
+                    return lists;
+                });
+        System.out.println();
+    }
+
+    /*
+     * The read-only loops alternate between the returned index and the one
+     * after it, so the JIT cannot hoist a repeated identical call out of the
+     * loop.
+     */
+    private static int index(Position position, int last) {
+        switch (position) {
+            case HEAD:
+                return 0;
+            case MIDDLE:
+                return last / 2;
+            default:
+                return last;
+        }
+    }
+
+    private static Supplier<MyList<Integer>> factory(String implementation) {
+        switch (implementation) {
+            case "array":
+                return MyArrayList::new;
+            case "linked":
+                return MyLinkedList::new;
+            case "unrolled":
+                return UnrolledLinkedList::new;
+            case "jdk-array":
+                return () -> new JdkList<>(new ArrayList<>());
+            case "jdk-linked":
+                return () -> new JdkList<>(new LinkedList<>());
+            default:
+                throw new IllegalArgumentException(
+                        "Unknown implementation: " + implementation);
+        }
+    }
+
+    /**
+     * Adapts a java.util.List to MyList so the baselines run through exactly
+     * the same benchmark code.
+     */
+    private static class JdkList<E> implements MyList<E> {
+        private final List<E> list;
+
+        JdkList(List<E> list) {
+            this.list = list;
+        }
+
+        public int size() {
+            return list.size();
+        }
+
+        public boolean isEmpty() {
+            return list.isEmpty();
+        }
+
+        public boolean add(E element) {
+            return list.add(element);
+        }
+
+        public E get(int index) {
+            return list.get(index);
+        }
+
+        public E set(int index, E element) {
+            return list.set(index, element);
+        }
+
+        public void clear() {
+            list.clear();
+        }
+
+        public Iterator<E> iterator() {
+            return list.iterator();
+        }
+
+        public ListIterator<E> listIterator() {
+            return list.listIterator();
+        }
+
+        public ListIterator<E> listIterator(int index) {
+            return list.listIterator(index);
+        }
+
+        @Override
+        public String toString() {
+            return list.toString();
+        }
+
+        public void add(int index, E element) {
+            list.add(index, element);
+        }
+
+        public E remove(int index) {
+            return list.remove(index);
+        }
+
+        public int indexOf(E element) {
+            return list.indexOf(element);
+        }
+
+        public int[] indexesOf(E element) {
+            int[] indexes = new int[4];
+            int count = 0, i = 0;
+            for (E e : list) {
+                if (e.equals(element)) {
+                    if (count == indexes.length) {
+                        indexes = Arrays.copyOf(indexes, count * 2);
+                    }
+                    indexes[count++] = i;
+                }
+                i++;
+            }
+            return Arrays.copyOf(indexes, count);
+        }
+
+        public PrimitiveIterator.OfInt indexIterator(E element) {
+            int[] indexes = indexesOf(element);
+            return Arrays.stream(indexes).iterator();
+        }
+
+        public void reverse() {
+            Collections.reverse(list);
+        }
+    }
+}
@@ -0,0 +1,258 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks get, put and remove on every MyMap implementation across map
+ * sizes, key distributions and key types.
+ * <p>
+ * For a map of n keys, the keys are the integers 0 to n - 1, either boxed
+ * or turned into strings. The distribution decides the order in which
+ * operations touch them:
+ * <ul>
+ *   <li>sequential: keys are inserted, looked up and removed in ascending
+ *       order</li>
+ *   <li>random: keys are inserted and removed in a shuffled order and looked
+ *       up uniformly at random</li>
+ *   <li>zipfian: keys are inserted and removed in a shuffled order and looked
+ *       up with a Zipfian popularity (theta = 0.99), so a few hot keys get
+ *       most of the lookups</li>
+ * </ul>
+ * put measures building the map from empty, get measures lookups on a full
+ * map, and remove measures emptying a full map. Small maps are rebuilt or
+ * searched repeatedly so every measurement covers enough operations for
+ * the JIT to settle. A sample of per-operation
+ * latencies is also reported for get and put.
+ * <p>
+ * Usage: java MapBenchmark [maxSize] [implementation...]
+ * <br>
+ * Sizes run from 1,000 up to maxSize (default 100,000) in powers of ten.
+ * The implementations are hash, open, concurrent, bst and avl (default
+ * all). Sizes of 10,000,000 need a larger heap, e.g. -Xmx4g.
+ * @author Amelie Sharples aes2367
+ * @version 1.0 October 18, 2026
+ */
+public class MapBenchmark {
+    /**
+     * The largest size at which an unbalanced BSTMap is run with sequential
+     * keys. Beyond it the tree degenerates into a list and a single put
+     * takes time proportional to the size of the map.
+     */
+    private static final int MAX_DEGENERATE_BST_SIZE = 1000;
+    /**
+     * Small maps are built and searched repeatedly until each timed
+     * invocation performs at least this many operations.
+     */
+    private static final int MIN_OPS_PER_INVOCATION = 1000000;
+    private static final int LATENCY_SAMPLES = 100000;
+    private static final double ZIPFIAN_THETA = 0.99;
+
+    private enum Distribution { SEQUENTIAL, RANDOM, ZIPFIAN }
+
+    private static final String[] IMPLEMENTATIONS =
+            { "hash", "open", "concurrent", "bst", "avl" };
+
+    public static void main(String[] args) {
+        int maxSize = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+        List<String> implementations = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            implementations.add(args[i].toLowerCase());
+        }
+        if (implementations.isEmpty()) {
+            implementations.addAll(List.of(IMPLEMENTATIONS));
+        }
+
+        for (int size = 1000; size > 0 && size <= maxSize; size *= 10) {
+            Integer[] integerKeys = new Integer[size];
+            String[] stringKeys = new String[size];
+            for (int i = 0; i < size; i++) {
+                integerKeys[i] = i;
+                stringKeys[i] = "key" + i;
+            }
+            for (Distribution distribution : Distribution.values()) {
+                Workload workload = new Workload(size, distribution, new Random(size));
+                for (String implementation : implementations) {
+                    run(implementation, "Integer", integerKeys, workload);
+                    run(implementation, "String", stringKeys, workload);
+                }
+            }
+        }
+    }
+
+    private static <K extends Comparable<K>> void run(
+            String implementation, String keyType, K[] keys,
+            Workload workload) {
+        String name = implementation + " " + keyType + " "
+                + workload.distribution.name().toLowerCase() + " n="
+                + keys.length;
+        if (implementation.equals("bst")
+                && workload.distribution == Distribution.SEQUENTIAL
+                && keys.length > MAX_DEGENERATE_BST_SIZE) {
+            System.out.println(name + ": skipped, the tree degenerates into"
+                    + " a list");
+            return;
+        }
+        Supplier<MyMap<K, Integer>> factory = factory(implementation);
+        int n = keys.length;
+        int[] order = workload.insertOrder;
+        int[] lookups = workload.lookups;
+        int repeat = Math.max(1, MIN_OPS_PER_INVOCATION / n);
+        long ops = (long)n * repeat;
+
+        System.out.println(name);
+        Benchmark.printHeader();
+        Benchmark.measure("  put", ops, () -> null, unused -> {
+            MyMap<K, Integer> map = null;
+            for (int r = 0; r < repeat; r++) {
+                map = factory.get();
+                for (int i = 0; i < n; i++) {
+                    map.put(keys[order[i]], i);
+                }
+            }
+            return map;
+        });
+        Supplier<MyMap<K, Integer>> filled = () -> {
+            MyMap<K, Integer> map = factory.get();
+            for (int i = 0; i < n; i++) {
+                map.put(keys[order[i]], i);
+            }
+            return map;
+        };
+        MyMap<K, Integer> full = filled.get();
+        Benchmark.measure("  get", ops, () -> full, map -> {
+            int found = 0;
+            for (int r = 0; r < repeat; r++) {
+                for (int i = 0; i < n; i++) {
+                    if (map.get(keys[lookups[i]]) != null) {
+                        found++;
+                    }
+                }
+            }
+            return found;
+        });
+        Benchmark.measure("  remove", ops, () -> {
+            List<MyMap<K, Integer>> maps = new ArrayList<>(repeat);
+            for (int r = 0; r < repeat; r++) {
+                maps.add(filled.get());
+            }
+            return maps;
+        }, maps -> {
+            for (MyMap<K, Integer> map : maps) {
+                for (int i = 0; i < n; i++) {
+                    map.remove(keys[order[i]]);
+                }
+            }
+            return maps;
+        });
+
+        int samples = Math.min(n, LATENCY_SAMPLES);
+        Benchmark.printLatencyHeader();
+        Benchmark.latency("  put", samples, () -> {
+            MyMap<K, Integer> map = factory.get();
+            return i -> map.put(keys[order[i]], i);
+        });
+        Benchmark.latency("  get", samples,
+                () -> i -> full.get(keys[lookups[i]]));
+        System.out.println();
+    }
+
+    private static <K extends Comparable<K>> Supplier<MyMap<K, Integer>>
+            factory(String implementation) {
+        switch (implementation) {
+            case "hash":
+                return MyHashMap::new;
+            case "open":
+                return OpenAddressingHashMap::new;
+            case "concurrent":
+                return ConcurrentMyHashMap::new;
+            case "bst":
+                return BSTMap::new;
+            case "avl":
+                return AVLTreeMap::new;
+            default:
+                throw new IllegalArgumentException(
+                        "Unknown implementation: " + implementation);
+        }
+    }
+
+    /**
+     * The key indexes one run of a distribution touches, generated up front
+     * so the timed loops only index into arrays.
+     */
+    private static class Workload {
+        final Distribution distribution;
+        final int[] insertOrder, lookups;
+
+        Workload(int n, Distribution distribution, Random random) {
+            this.distribution = distribution;
+            insertOrder = new int[n];
+            lookups = new int[n];
+            for (int i = 0; i < n; i++) {
+                insertOrder[i] = i;
+            }
+            if (distribution == Distribution.SEQUENTIAL) {
+                System.arraycopy(insertOrder, 0, lookups, 0, n);
+                return;
+            }
+            shuffle(insertOrder, random);
+            if (distribution == Distribution.RANDOM) {
+                for (int i = 0; i < n; i++) {
+                    lookups[i] = random.nextInt(n);
+                }
+            } else {
+                // Ranks are mapped through the shuffled order so the hot keys
+                // are spread over the key space rather than being 0, 1, 2...
+                ZipfianGenerator zipfian = new ZipfianGenerator(n, ZIPFIAN_THETA);
+                for (int i = 0; i < n; i++) {
+                    lookups[i] = insertOrder[zipfian.next(random)];
+                }
+            }
+        }
+
+        private static void shuffle(int[] array, Random random) {
+            for (int i = array.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int temp = array[i];
+                array[i] = array[j];
+                array[j] = temp;
+            }
+        }
+    }
+
+    /**
+     * Draws ranks from 0 to n - 1 where rank r has probability proportional
+     * to 1 / (r + 1)^theta, using the method of Gray et al., "Quickly
+     * Generating Billion-Record Synthetic Databases" (SIGMOD 1994).
+     */
+    private static class ZipfianGenerator {
+        private final int n;
+        private final double theta, zetaN, alpha, eta;
+
+        ZipfianGenerator(int n, double theta) {
+            this.n = n;
+            this.theta = theta;
+            double zeta2 = 1 + Math.pow(0.5, theta);
+            double sum = 0;
+            for (int i = 1; i <= n; i++) {
+                sum += 1 / Math.pow(i, theta);
+            }
+            zetaN = sum;
+            alpha = 1 / (1 - theta);
+            eta = (1 - Math.pow(2.0 / n, 1 - theta)) / (1 - zeta2 / zetaN);
+        }
+
+        int next(Random random) {
+            double u = random.nextDouble();
+            double uz = u * zetaN;
+            if (uz < 1) {
+                return 0;
+            }
+            if (uz < 1 + Math.pow(0.5, theta)) {
+                return 1;
+            }
+            int rank = (int)(n * Math.pow(eta * u - eta + 1, alpha));
+            return Math.min(rank, n - 1);
+        }
+    }
+}